@@ -0,0 +1,183 @@
+package seedu.addressbook;
+
+import static seedu.addressbook.common.Messages.MESSAGE_BATCH_FILE_READ_ERROR;
+import static seedu.addressbook.common.Messages.MESSAGE_CHECKPOINT_WITHOUT_BATCH;
+import static seedu.addressbook.common.Messages.MESSAGE_INVALID_CHECKPOINT_INTERVAL;
+import static seedu.addressbook.common.Messages.MESSAGE_INVALID_SAVE_BATCH_SIZE;
+import static seedu.addressbook.common.Messages.MESSAGE_INVALID_SAVE_DELAY;
+import static seedu.addressbook.common.Messages.MESSAGE_MISSING_LAUNCH_OPTION_VALUE;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.addressbook.data.exception.IllegalValueException;
+import seedu.addressbook.storage.AsyncStorageWriter;
+import seedu.addressbook.storage.CheckpointedSaver;
+
+/**
+ * The options the program was launched with: an optional file of commands to run instead of reading them from
+ * the user, how many changes such a batch run makes between saves, how long and for how many saves writes to
+ * the storage file may be held back, and an optional storage file path.
+ */
+public class LaunchOptions {
+
+    /**
+     * Signals that the launch arguments could not be understood.
+     */
+    public static class InvalidLaunchOptionsException extends IllegalValueException {
+        public InvalidLaunchOptionsException(String message) {
+            super(message);
+        }
+    }
+
+    /** Launch option followed by the path of a file of commands to run instead of reading them from the user. */
+    public static final String BATCH_OPTION = "--batch";
+
+    /** Launch option followed by the number of changes after which a batch run saves the address book. */
+    public static final String CHECKPOINT_OPTION = "--checkpoint";
+
+    /** Launch option followed by the longest time, in milliseconds, a save may wait before being written. */
+    public static final String SAVE_DELAY_OPTION = "--save-delay";
+
+    /** Launch option followed by the number of waiting saves that causes them to be written immediately. */
+    public static final String SAVE_BATCH_OPTION = "--save-batch";
+
+    /** Checkpoint interval when commands are read from the user: every change is saved straight away. */
+    public static final int INTERACTIVE_CHECKPOINT_INTERVAL = 1;
+
+    private final Path batchFile;
+    private final int checkpointInterval;
+    private final long saveDelayMillis;
+    private final int saveBatchSize;
+    private final String storageFilePath;
+
+    private LaunchOptions(Path batchFile, int checkpointInterval, long saveDelayMillis, int saveBatchSize,
+                          String storageFilePath) {
+        this.batchFile = batchFile;
+        this.checkpointInterval = checkpointInterval;
+        this.saveDelayMillis = saveDelayMillis;
+        this.saveBatchSize = saveBatchSize;
+        this.storageFilePath = storageFilePath;
+    }
+
+    /**
+     * Parses the arguments supplied by the user at program launch. The options may appear in any order, and the
+     * first remaining argument, if any, is the storage file path.
+     *
+     * @throws InvalidLaunchOptionsException if an option is missing its value or has an invalid one,
+     *    or if {@value #CHECKPOINT_OPTION} is given without {@value #BATCH_OPTION}.
+     */
+    public static LaunchOptions parse(String... launchArgs) throws InvalidLaunchOptionsException {
+        final List<String> remainingArgs = new ArrayList<>(Arrays.asList(launchArgs));
+        final String batchFilePath = removeOptionValue(remainingArgs, BATCH_OPTION);
+        final String checkpointIntervalText = removeOptionValue(remainingArgs, CHECKPOINT_OPTION);
+        final String saveDelayText = removeOptionValue(remainingArgs, SAVE_DELAY_OPTION);
+        final String saveBatchSizeText = removeOptionValue(remainingArgs, SAVE_BATCH_OPTION);
+        final String storageFilePath = remainingArgs.isEmpty() ? null : remainingArgs.get(0);
+
+        final long saveDelayMillis = saveDelayText == null
+                ? AsyncStorageWriter.DEFAULT_MAX_DELAY_MILLIS
+                : parseNumber(saveDelayText, 0, Long.MAX_VALUE, MESSAGE_INVALID_SAVE_DELAY);
+        final int saveBatchSize = saveBatchSizeText == null
+                ? AsyncStorageWriter.DEFAULT_MAX_PENDING_SAVES
+                : (int) parseNumber(saveBatchSizeText, 1, Integer.MAX_VALUE, MESSAGE_INVALID_SAVE_BATCH_SIZE);
+
+        if (batchFilePath == null) {
+            if (checkpointIntervalText != null) {
+                throw new InvalidLaunchOptionsException(MESSAGE_CHECKPOINT_WITHOUT_BATCH);
+            }
+            return new LaunchOptions(null, INTERACTIVE_CHECKPOINT_INTERVAL, saveDelayMillis, saveBatchSize,
+                    storageFilePath);
+        }
+
+        final Path batchFile;
+        try {
+            batchFile = Paths.get(batchFilePath);
+        } catch (InvalidPathException ipe) {
+            throw new InvalidLaunchOptionsException(String.format(MESSAGE_BATCH_FILE_READ_ERROR, batchFilePath));
+        }
+        final int checkpointInterval = checkpointIntervalText == null
+                ? CheckpointedSaver.NO_CHECKPOINTS
+                : (int) parseNumber(checkpointIntervalText, 1, Integer.MAX_VALUE, MESSAGE_INVALID_CHECKPOINT_INTERVAL);
+        return new LaunchOptions(batchFile, checkpointInterval, saveDelayMillis, saveBatchSize, storageFilePath);
+    }
+
+    /**
+     * Parses the value of a numeric option.
+     *
+     * @param invalidMessageFormat message reported for an invalid value, which it takes as its only argument
+     * @throws InvalidLaunchOptionsException if the value is not a whole number from minimum to maximum.
+     */
+    private static long parseNumber(String text, long minimum, long maximum, String invalidMessageFormat)
+            throws InvalidLaunchOptionsException {
+        try {
+            final long number = Long.parseLong(text);
+            if (number >= minimum && number <= maximum) {
+                return number;
+            }
+        } catch (NumberFormatException nfe) {
+            // reported below, together with numbers out of range
+        }
+        throw new InvalidLaunchOptionsException(String.format(invalidMessageFormat, text));
+    }
+
+    /**
+     * Removes the option and the value following it from the launch arguments.
+     * @return the value of the option, or null if the option is absent.
+     * @throws InvalidLaunchOptionsException if the option is the last argument.
+     */
+    private static String removeOptionValue(List<String> launchArgs, String option)
+            throws InvalidLaunchOptionsException {
+        final int optionIndex = launchArgs.indexOf(option);
+        if (optionIndex == -1) {
+            return null;
+        }
+        if (optionIndex == launchArgs.size() - 1) {
+            throw new InvalidLaunchOptionsException(String.format(MESSAGE_MISSING_LAUNCH_OPTION_VALUE, option));
+        }
+        final String value = launchArgs.get(optionIndex + 1);
+        launchArgs.subList(optionIndex, optionIndex + 2).clear();
+        return value;
+    }
+
+    /**
+     * Returns the file of commands to run, or an empty optional if commands are read from the user.
+     */
+    public Optional<Path> getBatchFile() {
+        return Optional.ofNullable(batchFile);
+    }
+
+    /**
+     * Returns the number of changes after which the address book is saved,
+     * or {@link CheckpointedSaver#NO_CHECKPOINTS} if a batch run only saves after its last command.
+     */
+    public int getCheckpointInterval() {
+        return checkpointInterval;
+    }
+
+    /**
+     * Returns the longest time, in milliseconds, a save may wait before being written to the storage file.
+     */
+    public long getSaveDelayMillis() {
+        return saveDelayMillis;
+    }
+
+    /**
+     * Returns the number of waiting saves that causes them to be written to the storage file immediately.
+     */
+    public int getSaveBatchSize() {
+        return saveBatchSize;
+    }
+
+    /**
+     * Returns the storage file path given by the user, or an empty optional if the default path is used.
+     */
+    public Optional<String> getStorageFilePath() {
+        return Optional.ofNullable(storageFilePath);
+    }
+}
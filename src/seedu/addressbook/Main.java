@@ -1,15 +1,27 @@
 package seedu.addressbook;
 
+import static seedu.addressbook.common.Messages.MESSAGE_BATCH_FILE_READ_ERROR;
+import static seedu.addressbook.common.Messages.MESSAGE_BATCH_SUMMARY;
+import static seedu.addressbook.common.Messages.MESSAGE_PROGRAM_LAUNCH_ARGS_USAGE;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
+import seedu.addressbook.LaunchOptions.InvalidLaunchOptionsException;
 import seedu.addressbook.commands.Command;
 import seedu.addressbook.commands.CommandResult;
 import seedu.addressbook.commands.ExitCommand;
 import seedu.addressbook.data.AddressBook;
 import seedu.addressbook.data.person.ReadOnlyPerson;
 import seedu.addressbook.parser.Parser;
+import seedu.addressbook.storage.AsyncStorageWriter;
+import seedu.addressbook.storage.CheckpointedSaver;
 import seedu.addressbook.storage.StorageFile;
 import seedu.addressbook.storage.StorageFile.InvalidStorageFilePathException;
 import seedu.addressbook.storage.StorageFile.StorageOperationException;
@@ -18,7 +30,8 @@ import seedu.addressbook.ui.TextUi;
 
 /**
  * Entry point of the Address Book application.
- * Initializes the application and starts the interaction with the user.
+ * Initializes the application and starts the interaction with the user, or runs the commands in a file
+ * when launched with {@value LaunchOptions#BATCH_OPTION}.
  */
 public class Main {
 
@@ -27,7 +40,10 @@ public class Main {
 
     private TextUi ui;
     private StorageFile storage;
+    private AsyncStorageWriter storageWriter;
+    private CheckpointedSaver saver;
     private AddressBook addressBook;
+    private LaunchOptions launchOptions;
 
     /** The list of person shown to the user most recently.  */
     private List<? extends ReadOnlyPerson> lastShownList = Collections.emptyList();
@@ -40,7 +56,12 @@ public class Main {
     /** Runs the program until termination.  */
     public void run(String[] launchArgs) {
         start(launchArgs);
-        runCommandLoopUntilExitCommand();
+        final Optional<Path> batchFile = launchOptions.getBatchFile();
+        if (batchFile.isPresent()) {
+            runBatchFile(batchFile.get());
+        } else {
+            runCommandLoopUntilExitCommand();
+        }
         exit();
     }
 
@@ -53,10 +74,18 @@ public class Main {
     private void start(String[] launchArgs) {
         try {
             this.ui = new TextUi();
-            this.storage = initializeStorage(launchArgs);
+            this.launchOptions = LaunchOptions.parse(launchArgs);
+            this.storage = initializeStorage(launchOptions);
             this.addressBook = storage.load();
+            this.storageWriter = new AsyncStorageWriter(storage,
+                    launchOptions.getSaveDelayMillis(), launchOptions.getSaveBatchSize());
+            this.saver = new CheckpointedSaver(storageWriter, launchOptions.getCheckpointInterval());
             ui.showWelcomeMessage(VERSION, storage.getPath());
 
+        } catch (InvalidLaunchOptionsException iloe) {
+            ui.showToUser(iloe.getMessage(), MESSAGE_PROGRAM_LAUNCH_ARGS_USAGE);
+            ui.showInitFailedMessage();
+            throw new RuntimeException(iloe);
         } catch (InvalidStorageFilePathException | StorageOperationException e) {
             ui.showInitFailedMessage();
             /*
@@ -72,8 +101,13 @@ public class Main {
         }
     }
 
-    /** Prints the Goodbye message and exits. */
+    /** Waits for all changes to be saved, then prints the Goodbye message and exits. */
     private void exit() {
+        try {
+            storageWriter.close();
+        } catch (StorageOperationException e) {
+            ui.showToUser(e.getMessage());
+        }
         ui.showGoodbyeMessage();
         System.exit(0);
     }
@@ -91,6 +125,43 @@ public class Main {
         } while (!ExitCommand.isExit(command));
     }
 
+    /**
+     * Runs the commands in the batch file in order, until the end of the file or an exit command.
+     * The prompt and the echo of each command are left out, and the address book is saved only at the
+     * configured checkpoints and once after the last command. Prints the number of commands run and the rate
+     * they were run at, including the time taken to save.
+     */
+    private void runBatchFile(Path batchFile) {
+        final long startTime = System.nanoTime();
+        int commandCount = 0;
+        try (BufferedReader reader = Files.newBufferedReader(batchFile, StandardCharsets.UTF_8)) {
+            Command command = null;
+            String commandText;
+            while (!ExitCommand.isExit(command) && (commandText = reader.readLine()) != null) {
+                if (TextUi.shouldIgnore(commandText)) {
+                    continue;
+                }
+                command = new Parser().parseCommand(commandText);
+                CommandResult result = executeCommand(command);
+                recordResult(result);
+                ui.showResultToUser(result);
+                commandCount++;
+            }
+        } catch (IOException ioe) {
+            ui.showToUser(String.format(MESSAGE_BATCH_FILE_READ_ERROR, batchFile));
+        }
+
+        try {
+            saver.saveUnsavedChanges(addressBook);
+            storageWriter.flush();
+        } catch (StorageOperationException soe) {
+            ui.showToUser(soe.getMessage());
+        }
+        final double elapsedSeconds = Math.max(System.nanoTime() - startTime, 1) / 1e9;
+        ui.showToUser(String.format(MESSAGE_BATCH_SUMMARY,
+                commandCount, elapsedSeconds, commandCount / elapsedSeconds, saver.getSaveCount()));
+    }
+
     /** Updates the {@link #lastShownList} if the result contains a list of Persons. */
     private void recordResult(CommandResult result) {
         final Optional<List<? extends ReadOnlyPerson>> personList = result.getRelevantPersons();
@@ -101,6 +172,8 @@ public class Main {
 
     /**
      * Executes the command and returns the result.
+     * The address book is saved only if the command changed it, and only once the checkpoint interval's number of
+     * changes have been made since the last save. Saving happens in the background.
      *
      * @param command user command
      * @return result of the command
@@ -108,8 +181,15 @@ public class Main {
     private CommandResult executeCommand(Command command)  {
         try {
             command.setData(addressBook, lastShownList);
+            final long modificationCountBeforeExecution = addressBook.getModificationCount();
             CommandResult result = command.execute();
-            storage.save(addressBook);
+            final boolean isAddressBookChanged =
+                    addressBook.getModificationCount() != modificationCountBeforeExecution;
+            assert command.isMutating() || !isAddressBookChanged : "Non-mutating command changed the address book";
+            if (command.isMutating() && isAddressBookChanged) {
+                saver.recordChanges(addressBook,
+                        addressBook.getModificationCount() - modificationCountBeforeExecution);
+            }
             return result;
         } catch (Exception e) {
             ui.showToUser(e.getMessage());
@@ -119,12 +199,12 @@ public class Main {
 
     /**
      * Creates the StorageFile object based on the user specified path (if any) or the default storage path.
-     * @param launchArgs arguments supplied by the user at program launch
+     * @param launchOptions options supplied by the user at program launch
      * @throws InvalidStorageFilePathException if the target file path is incorrect.
      */
-    private StorageFile initializeStorage(String[] launchArgs) throws InvalidStorageFilePathException {
-        boolean isStorageFileSpecifiedByUser = launchArgs.length > 0;
-        return isStorageFileSpecifiedByUser ? new StorageFile(launchArgs[0]) : new StorageFile();
+    private StorageFile initializeStorage(LaunchOptions launchOptions) throws InvalidStorageFilePathException {
+        final Optional<String> storageFilePath = launchOptions.getStorageFilePath();
+        return storageFilePath.isPresent() ? new StorageFile(storageFilePath.get()) : new StorageFile();
     }
 
 
@@ -0,0 +1,45 @@
+package seedu.addressbook.commands;
+
+import java.util.List;
+
+import seedu.addressbook.data.person.ReadOnlyPerson;
+
+/**
+ * Lists persons in address book with a word in their name starting with the argument prefix.
+ * Prefix matching is case sensitive.
+ */
+public class AutocompleteCommand extends Command {
+
+    public static final String COMMAND_WORD = "autocomplete";
+
+    public static final int DEFAULT_LIMIT = 10;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists up to LIMIT (default " + DEFAULT_LIMIT
+            + ") persons with a word in their name starting with the specified prefix (case-sensitive), "
+            + "in alphabetical order of that word, and displays them as a list with index numbers.\n"
+            + "Parameters: PREFIX [LIMIT]\n"
+            + "Example: " + COMMAND_WORD + " Ali 5";
+
+    private final String prefix;
+    private final int limit;
+
+    public AutocompleteCommand(String prefix, int limit) {
+        this.prefix = prefix;
+        this.limit = limit;
+    }
+
+    public String getPrefix() {
+        return prefix;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    @Override
+    public CommandResult execute() {
+        final List<ReadOnlyPerson> personsFound = addressBook.getPersonsWithNameWordStartingWith(prefix, limit);
+        return new CommandResult(getMessageForPersonListShownSummary(personsFound), personsFound);
+    }
+
+}
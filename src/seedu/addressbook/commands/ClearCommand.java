@@ -14,6 +14,11 @@ public class ClearCommand extends Command {
     public ClearCommand() {}
 
 
+    @Override
+    public boolean isMutating() {
+        return true;
+    }
+
     @Override
     public CommandResult execute() {
         addressBook.clear();
@@ -43,6 +43,13 @@ public class Command {
         throw new UnsupportedOperationException("This method is to be implemented by child classes");
     };
 
+    /**
+     * Returns true if executing this command may change the address book, and so may require saving.
+     */
+    public boolean isMutating() {
+        return false;
+    }
+
     /**
      * Supplies the data the command will operate on.
      */
@@ -0,0 +1,49 @@
+package seedu.addressbook.commands;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Paths;
+
+import seedu.addressbook.storage.CsvPersonFormat;
+import seedu.addressbook.storage.JsonLinesPersonFormat;
+import seedu.addressbook.storage.PersonExporter;
+import seedu.addressbook.storage.StorageFile.StorageOperationException;
+
+/**
+ * Writes all persons in the address book, including their private details, to a CSV or JSON Lines file.
+ */
+public class ExportCommand extends Command {
+
+    public static final String COMMAND_WORD = "export";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Writes all persons in the address book, including "
+            + "private details, to a CSV file or a JSON Lines file, depending on the file extension.\n"
+            + "Parameters: FILE" + CsvPersonFormat.FILE_EXTENSION + " or FILE" + JsonLinesPersonFormat.FILE_EXTENSION
+            + "\n"
+            + "Example: " + COMMAND_WORD + " contacts.csv";
+
+    public static final String MESSAGE_SUCCESS = "%1$d persons exported to %2$s";
+    public static final String MESSAGE_INVALID_FILE_PATH = "Invalid file path: %1$s";
+
+    private final String filePath;
+
+    public ExportCommand(String filePath) {
+        this.filePath = filePath;
+    }
+
+    public String getFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public CommandResult execute() {
+        try {
+            final int exportedCount = PersonExporter.exportTo(Paths.get(filePath), addressBook.getAllPersons());
+            return new CommandResult(String.format(MESSAGE_SUCCESS, exportedCount, filePath));
+        } catch (InvalidPathException ipe) {
+            return new CommandResult(String.format(MESSAGE_INVALID_FILE_PATH, filePath));
+        } catch (StorageOperationException soe) {
+            return new CommandResult(soe.getMessage());
+        }
+    }
+
+}
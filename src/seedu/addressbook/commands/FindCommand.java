@@ -1,7 +1,5 @@
 package seedu.addressbook.commands;
 
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -10,21 +8,28 @@ import seedu.addressbook.data.person.ReadOnlyPerson;
 
 /**
  * Finds and lists all persons in address book whose name contains any of the argument keywords.
- * Keyword matching is case sensitive.
+ * Keyword matching is case sensitive, unless the command ignores case and accents.
  */
 public class FindCommand extends Command {
 
     public static final String COMMAND_WORD = "find";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose names contain any of "
-            + "the specified keywords (case-sensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
+            + "the specified keywords (case-sensitive, or ignoring case and accents if 'i/' is given) and displays "
+            + "them as a list with index numbers.\n"
+            + "Parameters: [i/] KEYWORD [MORE_KEYWORDS]...\n"
             + "Example: " + COMMAND_WORD + " alice bob charlie";
 
     private final Set<String> keywords;
+    private final boolean isCaseAndAccentIgnored;
 
     public FindCommand(Set<String> keywords) {
+        this(keywords, false);
+    }
+
+    public FindCommand(Set<String> keywords, boolean isCaseAndAccentIgnored) {
         this.keywords = keywords;
+        this.isCaseAndAccentIgnored = isCaseAndAccentIgnored;
     }
 
     /**
@@ -34,6 +39,10 @@ public class FindCommand extends Command {
         return new HashSet<>(keywords);
     }
 
+    public boolean isCaseAndAccentIgnored() {
+        return isCaseAndAccentIgnored;
+    }
+
     @Override
     public CommandResult execute() {
         final List<ReadOnlyPerson> personsFound = getPersonsWithNameContainingAnyKeyword(keywords);
@@ -47,14 +56,9 @@ public class FindCommand extends Command {
      * @return list of persons found
      */
     private List<ReadOnlyPerson> getPersonsWithNameContainingAnyKeyword(Set<String> keywords) {
-        final List<ReadOnlyPerson> matchedPersons = new ArrayList<>();
-        for (ReadOnlyPerson person : addressBook.getAllPersons()) {
-            final Set<String> wordsInName = new HashSet<>(person.getName().getWordsInName());
-            if (!Collections.disjoint(wordsInName, keywords)) {
-                matchedPersons.add(person);
-            }
-        }
-        return matchedPersons;
+        return isCaseAndAccentIgnored
+                ? addressBook.getPersonsWithNameContainingAnyWordIgnoringCase(keywords)
+                : addressBook.getPersonsWithNameContainingAnyWord(keywords);
     }
 
 }
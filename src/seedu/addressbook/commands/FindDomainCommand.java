@@ -0,0 +1,41 @@
+package seedu.addressbook.commands;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.addressbook.data.person.ReadOnlyPerson;
+
+/**
+ * Finds and lists all persons in address book with an email at any of the argument domains.
+ * Domain matching is case insensitive.
+ */
+public class FindDomainCommand extends Command {
+
+    public static final String COMMAND_WORD = "finddomain";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons with an email at any of the "
+            + "specified domains (case-insensitive) and displays them as a list with index numbers.\n"
+            + "Parameters: DOMAIN [MORE_DOMAINS]...\n"
+            + "Example: " + COMMAND_WORD + " nus.edu.sg gmail.com";
+
+    private final Set<String> domains;
+
+    public FindDomainCommand(Set<String> domains) {
+        this.domains = domains;
+    }
+
+    /**
+     * Returns a copy of the domains in this command.
+     */
+    public Set<String> getDomains() {
+        return new HashSet<>(domains);
+    }
+
+    @Override
+    public CommandResult execute() {
+        final List<ReadOnlyPerson> personsFound = addressBook.getPersonsWithEmailDomain(domains);
+        return new CommandResult(getMessageForPersonListShownSummary(personsFound), personsFound);
+    }
+
+}
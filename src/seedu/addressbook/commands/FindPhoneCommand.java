@@ -0,0 +1,44 @@
+package seedu.addressbook.commands;
+
+import java.util.List;
+
+import seedu.addressbook.data.person.ReadOnlyPerson;
+
+/**
+ * Finds and lists all persons in address book whose phone number is, or starts with, the argument number.
+ */
+public class FindPhoneCommand extends Command {
+
+    public static final String COMMAND_WORD = "findphone";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose phone number is the "
+            + "specified number, or starts with it if 'prefix/' is given, and displays them as a list with "
+            + "index numbers. Spaces, hyphens, brackets and a leading '+' in the number are ignored.\n"
+            + "Parameters: [prefix/] NUMBER\n"
+            + "Example: " + COMMAND_WORD + " prefix/ +65 9123";
+
+    private final String number;
+    private final boolean isPrefix;
+
+    public FindPhoneCommand(String number, boolean isPrefix) {
+        this.number = number;
+        this.isPrefix = isPrefix;
+    }
+
+    public String getNumber() {
+        return number;
+    }
+
+    public boolean isPrefix() {
+        return isPrefix;
+    }
+
+    @Override
+    public CommandResult execute() {
+        final List<ReadOnlyPerson> personsFound = isPrefix
+                ? addressBook.getPersonsWithPhoneStartingWith(number)
+                : addressBook.getPersonsWithPhone(number);
+        return new CommandResult(getMessageForPersonListShownSummary(personsFound), personsFound);
+    }
+
+}
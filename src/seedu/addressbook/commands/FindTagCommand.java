@@ -0,0 +1,73 @@
+package seedu.addressbook.commands;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.addressbook.data.exception.IllegalValueException;
+import seedu.addressbook.data.person.ReadOnlyPerson;
+import seedu.addressbook.data.tag.Tag;
+import seedu.addressbook.data.tag.TagDictionary;
+
+/**
+ * Finds and lists all persons in address book who have any, or all, of the argument tags.
+ * Tag matching is case sensitive.
+ */
+public class FindTagCommand extends Command {
+
+    public static final String COMMAND_WORD = "findtag";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons who have any of the specified "
+            + "tags (case-sensitive), or all of them if 'all/' is given, and displays them as a list with "
+            + "index numbers.\n"
+            + "Parameters: [all/] TAG [MORE_TAGS]...\n"
+            + "Example: " + COMMAND_WORD + " all/ friends colleagues";
+
+    private final Set<String> tagNames;
+    private final boolean isAllTagsRequired;
+
+    /**
+     * Convenience constructor using raw values.
+     *
+     * @throws IllegalValueException if any of the tag names are invalid
+     */
+    public FindTagCommand(Set<String> tagNames, boolean isAllTagsRequired) throws IllegalValueException {
+        for (String tagName : tagNames) {
+            if (!Tag.isValidTagName(tagName)) {
+                throw new IllegalValueException(Tag.MESSAGE_TAG_CONSTRAINTS);
+            }
+        }
+        this.tagNames = new HashSet<>(tagNames);
+        this.isAllTagsRequired = isAllTagsRequired;
+    }
+
+    /**
+     * Returns a copy of the tag names in this command.
+     */
+    public Set<String> getTagNames() {
+        return new HashSet<>(tagNames);
+    }
+
+    public boolean isAllTagsRequired() {
+        return isAllTagsRequired;
+    }
+
+    @Override
+    public CommandResult execute() {
+        // looked up without creating tags, so searching for names no person ever had does not intern them
+        final Set<Tag> tags = new HashSet<>();
+        for (String tagName : tagNames) {
+            TagDictionary.find(tagName).ifPresent(tags::add);
+        }
+        final boolean isAnyTagUnknown = tags.size() < tagNames.size();
+        final List<ReadOnlyPerson> personsFound;
+        if (isAllTagsRequired) {
+            personsFound = isAnyTagUnknown ? Collections.emptyList() : addressBook.getPersonsWithAllTags(tags);
+        } else {
+            personsFound = addressBook.getPersonsWithAnyTag(tags);
+        }
+        return new CommandResult(getMessageForPersonListShownSummary(personsFound), personsFound);
+    }
+
+}
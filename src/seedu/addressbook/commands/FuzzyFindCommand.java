@@ -0,0 +1,42 @@
+package seedu.addressbook.commands;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.addressbook.data.person.ReadOnlyPerson;
+
+/**
+ * Finds and lists all persons in address book whose name contains a word similar to any of the argument keywords.
+ * A few typos are allowed, and differences in case count as typos.
+ */
+public class FuzzyFindCommand extends Command {
+
+    public static final String COMMAND_WORD = "fuzzyfind";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose names contain words "
+            + "within a few typos of any of the specified keywords (case-sensitive) and displays them as a list "
+            + "with index numbers, closest matches first.\n"
+            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
+            + "Example: " + COMMAND_WORD + " Jhon Betsi";
+
+    private final Set<String> keywords;
+
+    public FuzzyFindCommand(Set<String> keywords) {
+        this.keywords = keywords;
+    }
+
+    /**
+     * Returns a copy of keywords in this command.
+     */
+    public Set<String> getKeywords() {
+        return new HashSet<>(keywords);
+    }
+
+    @Override
+    public CommandResult execute() {
+        final List<ReadOnlyPerson> personsFound = addressBook.getPersonsWithNameContainingWordNearAny(keywords);
+        return new CommandResult(getMessageForPersonListShownSummary(personsFound), personsFound);
+    }
+
+}
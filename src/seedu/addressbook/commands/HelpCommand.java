@@ -19,8 +19,16 @@ public class HelpCommand extends Command {
                 AddCommand.MESSAGE_USAGE
                 + "\n" + DeleteCommand.MESSAGE_USAGE
                 + "\n" + ClearCommand.MESSAGE_USAGE
+                + "\n" + ImportCommand.MESSAGE_USAGE
+                + "\n" + ExportCommand.MESSAGE_USAGE
                 + "\n" + FindCommand.MESSAGE_USAGE
+                + "\n" + FuzzyFindCommand.MESSAGE_USAGE
+                + "\n" + FindTagCommand.MESSAGE_USAGE
+                + "\n" + FindPhoneCommand.MESSAGE_USAGE
+                + "\n" + FindDomainCommand.MESSAGE_USAGE
+                + "\n" + AutocompleteCommand.MESSAGE_USAGE
                 + "\n" + ListCommand.MESSAGE_USAGE
+                + "\n" + ListDomainsCommand.MESSAGE_USAGE
                 + "\n" + ViewCommand.MESSAGE_USAGE
                 + "\n" + ViewAllCommand.MESSAGE_USAGE
                 + "\n" + HelpCommand.MESSAGE_USAGE
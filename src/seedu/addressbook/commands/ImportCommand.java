@@ -0,0 +1,81 @@
+package seedu.addressbook.commands;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Paths;
+import java.util.List;
+
+import seedu.addressbook.storage.CsvPersonFormat;
+import seedu.addressbook.storage.CsvPersonImporter;
+import seedu.addressbook.storage.CsvPersonImporter.PartialImportException;
+import seedu.addressbook.storage.CsvPersonImporter.RejectedRow;
+import seedu.addressbook.storage.StorageFile.StorageOperationException;
+
+/**
+ * Adds the persons in a file of comma-separated values to the address book.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Adds the persons in a CSV file to the address "
+            + "book, skipping invalid rows and persons already in the address book.\n"
+            + "The file has a row per person with the columns: " + CsvPersonFormat.HEADER + "\n"
+            + "Parameters: FILE" + CsvPersonFormat.FILE_EXTENSION + "\n"
+            + "Example: " + COMMAND_WORD + " contacts.csv";
+
+    public static final String MESSAGE_SUCCESS = "%1$d persons imported, %2$d rows rejected";
+    public static final String MESSAGE_REJECTED_ROW = "Rejected %1$s";
+    public static final String MESSAGE_MORE_REJECTED_ROWS = "... and %1$d more rejected rows";
+    public static final String MESSAGE_INVALID_FILE_PATH = "Invalid file path: %1$s";
+
+    /** Number of rejected rows described in the result; the rest are only counted. */
+    public static final int MAX_REJECTED_ROWS_SHOWN = 10;
+
+    private final String filePath;
+
+    public ImportCommand(String filePath) {
+        this.filePath = filePath;
+    }
+
+    public String getFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public boolean isMutating() {
+        return true;
+    }
+
+    @Override
+    public CommandResult execute() {
+        final CsvPersonImporter.Result result;
+        try {
+            result = CsvPersonImporter.importInto(Paths.get(filePath), addressBook);
+        } catch (InvalidPathException ipe) {
+            return new CommandResult(String.format(MESSAGE_INVALID_FILE_PATH, filePath));
+        } catch (PartialImportException pie) {
+            return new CommandResult(getResultSummary(pie.partialResult) + '\n' + pie.getMessage());
+        } catch (StorageOperationException soe) {
+            return new CommandResult(soe.getMessage());
+        }
+        return new CommandResult(getResultSummary(result));
+    }
+
+    /**
+     * Returns the first rejected rows of the import followed by its counts.
+     */
+    private static String getResultSummary(CsvPersonImporter.Result result) {
+        final List<RejectedRow> rejectedRows = result.rejectedRows;
+        final StringBuilder message = new StringBuilder();
+        for (RejectedRow row : rejectedRows.subList(0, Math.min(rejectedRows.size(), MAX_REJECTED_ROWS_SHOWN))) {
+            message.append(String.format(MESSAGE_REJECTED_ROW, row)).append('\n');
+        }
+        if (rejectedRows.size() > MAX_REJECTED_ROWS_SHOWN) {
+            message.append(String.format(MESSAGE_MORE_REJECTED_ROWS, rejectedRows.size() - MAX_REJECTED_ROWS_SHOWN))
+                    .append('\n');
+        }
+        message.append(String.format(MESSAGE_SUCCESS, result.addedCount, rejectedRows.size()));
+        return message.toString();
+    }
+
+}
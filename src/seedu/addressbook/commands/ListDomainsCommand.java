@@ -0,0 +1,29 @@
+package seedu.addressbook.commands;
+
+import java.util.Map;
+
+/**
+ * Lists every email domain in the address book with the number of persons having an email there.
+ */
+public class ListDomainsCommand extends Command {
+
+    public static final String COMMAND_WORD = "listdomains";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Displays every email domain in the address book, with the number of persons at each.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_DOMAIN_COUNT = "%1$s: %2$d persons";
+    public static final String MESSAGE_DOMAINS_LISTED_OVERVIEW = "%1$d domains listed!";
+
+    @Override
+    public CommandResult execute() {
+        final Map<String, Integer> counts = addressBook.countPersonsByEmailDomain();
+        final StringBuilder message = new StringBuilder();
+        for (Map.Entry<String, Integer> count : counts.entrySet()) {
+            message.append(String.format(MESSAGE_DOMAIN_COUNT, count.getKey(), count.getValue())).append('\n');
+        }
+        message.append(String.format(MESSAGE_DOMAINS_LISTED_OVERVIEW, counts.size()));
+        return new CommandResult(message.toString());
+    }
+}
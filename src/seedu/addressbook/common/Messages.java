@@ -5,14 +5,25 @@ package seedu.addressbook.common;
  */
 public class Messages {
 
+    public static final String MESSAGE_BATCH_FILE_READ_ERROR = "Error reading command file: %1$s";
+    public static final String MESSAGE_BATCH_SUMMARY =
+            "%1$d commands run in %2$.3f seconds (%3$.0f commands per second), address book saved %4$d times";
+    public static final String MESSAGE_CHECKPOINT_WITHOUT_BATCH = "Launch option --checkpoint requires --batch";
     public static final String MESSAGE_GOODBYE = "Good bye!";
     public static final String MESSAGE_INIT_FAILED = "Failed to initialise address book application. Exiting...";
+    public static final String MESSAGE_INVALID_CHECKPOINT_INTERVAL =
+            "Checkpoint interval must be a positive number: %1$s";
     public static final String MESSAGE_INVALID_COMMAND_FORMAT = "Invalid command format! \n%1$s";
+    public static final String MESSAGE_INVALID_SAVE_BATCH_SIZE = "Save batch size must be a positive number: %1$s";
+    public static final String MESSAGE_INVALID_SAVE_DELAY =
+            "Save delay must be a number of milliseconds, zero or more: %1$s";
     public static final String MESSAGE_INVALID_PERSON_DISPLAYED_INDEX = "The person index provided is invalid";
+    public static final String MESSAGE_MISSING_LAUNCH_OPTION_VALUE = "Missing value for launch option %1$s";
     public static final String MESSAGE_PERSON_NOT_IN_ADDRESSBOOK = "Person could not be found in address book";
     public static final String MESSAGE_PERSONS_LISTED_OVERVIEW = "%1$d persons listed!";
     public static final String MESSAGE_PROGRAM_LAUNCH_ARGS_USAGE = "Launch command format: " +
-            "java seedu.addressbook.Main [STORAGE_FILE_PATH]";
+            "java seedu.addressbook.Main [--batch COMMAND_FILE [--checkpoint N]] [--save-delay MILLISECONDS] "
+            + "[--save-batch N] [STORAGE_FILE_PATH]";
     public static final String MESSAGE_WELCOME = "Welcome to your Address Book!";
     public static final String MESSAGE_USING_STORAGE_FILE = "Using storage file : %1$s";
 }
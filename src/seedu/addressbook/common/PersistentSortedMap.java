@@ -0,0 +1,241 @@
+package seedu.addressbook.common;
+
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable map sorted by key, implemented as a balanced (AVL) binary tree.
+ *
+ * Updates return a new map and leave this one unchanged. The new map shares all but the O(log N) nodes on the
+ * path to the updated key with this one, so keeping old versions of a map around costs little.
+ * Entries can also be looked up by their position in key order.
+ *
+ * @param <K> type of the keys, which must be consistently ordered by the map's comparator
+ * @param <V> type of the values
+ */
+public final class PersistentSortedMap<K, V> {
+
+    /**
+     * A tree node. Nodes are never modified once created, so they can be shared between maps.
+     */
+    private static final class Node<K, V> {
+        private final K key;
+        private final V value;
+        private final Node<K, V> left;
+        private final Node<K, V> right;
+        private final int height;
+        private final int size;
+
+        Node(K key, V value, Node<K, V> left, Node<K, V> right) {
+            this.key = key;
+            this.value = value;
+            this.left = left;
+            this.right = right;
+            this.height = Math.max(height(left), height(right)) + 1;
+            this.size = size(left) + size(right) + 1;
+        }
+    }
+
+    private final Comparator<? super K> comparator;
+    private final Node<K, V> root;
+
+    private PersistentSortedMap(Comparator<? super K> comparator, Node<K, V> root) {
+        this.comparator = comparator;
+        this.root = root;
+    }
+
+    /**
+     * Returns an empty map ordering its keys with the given comparator.
+     */
+    public static <K, V> PersistentSortedMap<K, V> empty(Comparator<? super K> comparator) {
+        return new PersistentSortedMap<>(comparator, null);
+    }
+
+    public int size() {
+        return size(root);
+    }
+
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Returns the value mapped to the given key, or null if there is none.
+     */
+    public V get(K key) {
+        Node<K, V> node = root;
+        while (node != null) {
+            final int comparison = comparator.compare(key, node.key);
+            if (comparison == 0) {
+                return node.value;
+            }
+            node = comparison < 0 ? node.left : node.right;
+        }
+        return null;
+    }
+
+    /**
+     * Returns the value at the given position in key order.
+     *
+     * @throws IndexOutOfBoundsException if there is no such position.
+     */
+    public V getByIndex(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+        Node<K, V> node = root;
+        int remaining = index;
+        while (true) {
+            final int leftSize = size(node.left);
+            if (remaining == leftSize) {
+                return node.value;
+            }
+            if (remaining < leftSize) {
+                node = node.left;
+            } else {
+                remaining -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    /**
+     * Returns a map with the given key mapped to the given value, replacing any existing mapping for the key.
+     */
+    public PersistentSortedMap<K, V> put(K key, V value) {
+        return new PersistentSortedMap<>(comparator, put(root, key, value));
+    }
+
+    private Node<K, V> put(Node<K, V> node, K key, V value) {
+        if (node == null) {
+            return new Node<>(key, value, null, null);
+        }
+        final int comparison = comparator.compare(key, node.key);
+        if (comparison < 0) {
+            return balance(node.key, node.value, put(node.left, key, value), node.right);
+        }
+        if (comparison > 0) {
+            return balance(node.key, node.value, node.left, put(node.right, key, value));
+        }
+        return new Node<>(key, value, node.left, node.right);
+    }
+
+    /**
+     * Returns a map without any mapping for the given key.
+     * Returns this map if it has no mapping for the key.
+     */
+    public PersistentSortedMap<K, V> remove(K key) {
+        final Node<K, V> newRoot = remove(root, key);
+        return newRoot == root ? this : new PersistentSortedMap<>(comparator, newRoot);
+    }
+
+    private Node<K, V> remove(Node<K, V> node, K key) {
+        if (node == null) {
+            return null;
+        }
+        final int comparison = comparator.compare(key, node.key);
+        if (comparison < 0) {
+            final Node<K, V> newLeft = remove(node.left, key);
+            return newLeft == node.left ? node : balance(node.key, node.value, newLeft, node.right);
+        }
+        if (comparison > 0) {
+            final Node<K, V> newRight = remove(node.right, key);
+            return newRight == node.right ? node : balance(node.key, node.value, node.left, newRight);
+        }
+        if (node.left == null) {
+            return node.right;
+        }
+        if (node.right == null) {
+            return node.left;
+        }
+        // replace the removed node by its successor
+        Node<K, V> successor = node.right;
+        while (successor.left != null) {
+            successor = successor.left;
+        }
+        return balance(successor.key, successor.value, node.left, removeFirst(node.right));
+    }
+
+    private static <K, V> Node<K, V> removeFirst(Node<K, V> node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        return balance(node.key, node.value, removeFirst(node.left), node.right);
+    }
+
+    /**
+     * Returns an iterator over the values of this map in key order.
+     */
+    public Iterator<V> valueIterator() {
+        return new ValueIterator<>(root);
+    }
+
+    private static int height(Node<?, ?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static int size(Node<?, ?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    /**
+     * Returns a node with the given entry and subtrees, rotating them if their heights differ by more than one.
+     * The heights of the given subtrees must differ by at most two.
+     */
+    private static <K, V> Node<K, V> balance(K key, V value, Node<K, V> left, Node<K, V> right) {
+        if (height(left) > height(right) + 1) {
+            if (height(left.left) >= height(left.right)) {
+                return new Node<>(left.key, left.value, left.left, new Node<>(key, value, left.right, right));
+            }
+            final Node<K, V> pivot = left.right;
+            return new Node<>(pivot.key, pivot.value,
+                    new Node<>(left.key, left.value, left.left, pivot.left),
+                    new Node<>(key, value, pivot.right, right));
+        }
+        if (height(right) > height(left) + 1) {
+            if (height(right.right) >= height(right.left)) {
+                return new Node<>(right.key, right.value, new Node<>(key, value, left, right.left), right.right);
+            }
+            final Node<K, V> pivot = right.left;
+            return new Node<>(pivot.key, pivot.value,
+                    new Node<>(key, value, left, pivot.left),
+                    new Node<>(right.key, right.value, pivot.right, right.right));
+        }
+        return new Node<>(key, value, left, right);
+    }
+
+    /**
+     * In-order traversal of a tree, keeping the path to the next node on a stack.
+     */
+    private static class ValueIterator<K, V> implements Iterator<V> {
+        private final Deque<Node<K, V>> path = new ArrayDeque<>();
+
+        ValueIterator(Node<K, V> root) {
+            pushLeftPath(root);
+        }
+
+        private void pushLeftPath(Node<K, V> node) {
+            for (Node<K, V> current = node; current != null; current = current.left) {
+                path.push(current);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !path.isEmpty();
+        }
+
+        @Override
+        public V next() {
+            if (path.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            final Node<K, V> node = path.pop();
+            pushLeftPath(node.right);
+            return node.value;
+        }
+    }
+}
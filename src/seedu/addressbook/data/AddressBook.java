@@ -1,10 +1,17 @@
 package seedu.addressbook.data;
 
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Map;
-import java.util.Set;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.SortedMap;
 
+import seedu.addressbook.data.index.EmailDomainIndex;
+import seedu.addressbook.data.index.NameTrigramIndex;
+import seedu.addressbook.data.index.NameWordIndex;
+import seedu.addressbook.data.index.NameWordTrie;
+import seedu.addressbook.data.index.NormalisedNameWordIndex;
+import seedu.addressbook.data.index.PhoneDigitTrie;
+import seedu.addressbook.data.index.TagIndex;
 import seedu.addressbook.data.person.Person;
 import seedu.addressbook.data.person.ReadOnlyPerson;
 import seedu.addressbook.data.person.UniquePersonList;
@@ -18,12 +25,22 @@ import seedu.addressbook.data.tag.UniqueTagList;
  *
  * Guarantees:
  *  - Every tag found in every person will also be found in the tag list.
- *  - The tags in each person point to tag objects in the master list. (== equality)
  */
 public class AddressBook {
 
     private final UniquePersonList allPersons;
     private final UniqueTagList allTags; // can contain tags not attached to any person
+    private final NameWordIndex nameWordIndex = new NameWordIndex();
+    private final NormalisedNameWordIndex normalisedNameWordIndex = new NormalisedNameWordIndex();
+    private final NameWordTrie nameWordTrie = new NameWordTrie();
+    private final NameTrigramIndex nameTrigramIndex = new NameTrigramIndex();
+    private final TagIndex tagIndex = new TagIndex();
+    private final PhoneDigitTrie phoneDigitTrie = new PhoneDigitTrie();
+    private final EmailDomainIndex emailDomainIndex = new EmailDomainIndex();
+    private final List<AddressBookChangeListener> changeListeners = new ArrayList<>();
+
+    /** Number of changes made to this address book since it was constructed. */
+    private long modificationCount = 0;
 
     /**
      * Creates an empty address book.
@@ -44,43 +61,37 @@ public class AddressBook {
         this.allPersons = new UniquePersonList(persons);
         this.allTags = new UniqueTagList(tags);
         for (Person p : allPersons) {
-            syncTagsWithMasterList(p);
-        }
-    }
-
-    /**
-     * Ensures that every tag in this person:
-     *  - exists in the master list {@link #allTags}
-     *  - points to a Tag object in the master list
-     */
-    private void syncTagsWithMasterList(Person person) {
-        final UniqueTagList personTags = person.getTags();
-        allTags.mergeFrom(personTags);
-
-        // Create map with values = tag object references in the master list
-        final Map<Tag, Tag> masterTagObjects = new HashMap<>();
-        for (Tag tag : allTags) {
-            masterTagObjects.put(tag, tag);
-        }
-
-        // Rebuild the list of person tags using references from the master list
-        final Set<Tag> commonTagReferences = new HashSet<>();
-        for (Tag tag : personTags) {
-            commonTagReferences.add(masterTagObjects.get(tag));
+            allTags.mergeFrom(p.getTags());
+            nameWordIndex.add(p);
+            normalisedNameWordIndex.add(p);
+            nameWordTrie.add(p);
+            nameTrigramIndex.add(p);
+            tagIndex.add(p);
+            phoneDigitTrie.add(p);
+            emailDomainIndex.add(p);
         }
-        person.setTags(new UniqueTagList(commonTagReferences));
     }
 
     /**
      * Adds a person to the address book.
-     * Also checks the new person's tags and updates {@link #allTags} with any new tags found,
-     * and updates the Tag objects in the person to point to those in {@link #allTags}.
+     * Also checks the new person's tags and updates {@link #allTags} with any new tags found.
      *
      * @throws DuplicatePersonException if an equivalent person already exists.
      */
     public void addPerson(Person toAdd) throws DuplicatePersonException {
         allPersons.add(toAdd);
-        syncTagsWithMasterList(toAdd);
+        allTags.mergeFrom(toAdd.getTags());
+        nameWordIndex.add(toAdd);
+        normalisedNameWordIndex.add(toAdd);
+        nameWordTrie.add(toAdd);
+        nameTrigramIndex.add(toAdd);
+        tagIndex.add(toAdd);
+        phoneDigitTrie.add(toAdd);
+        emailDomainIndex.add(toAdd);
+        modificationCount++;
+        for (AddressBookChangeListener listener : changeListeners) {
+            listener.personAdded(toAdd);
+        }
     }
 
     /**
@@ -96,7 +107,18 @@ public class AddressBook {
      * @throws PersonNotFoundException if no such Person could be found.
      */
     public void removePerson(ReadOnlyPerson toRemove) throws PersonNotFoundException {
-        allPersons.remove(toRemove);
+        final Person removed = allPersons.remove(toRemove); // the indexes hold this object, not toRemove
+        nameWordIndex.remove(removed);
+        normalisedNameWordIndex.remove(removed);
+        nameWordTrie.remove(removed);
+        nameTrigramIndex.remove(removed);
+        tagIndex.remove(removed);
+        phoneDigitTrie.remove(removed);
+        emailDomainIndex.remove(removed);
+        modificationCount++;
+        for (AddressBookChangeListener listener : changeListeners) {
+            listener.personRemoved(toRemove);
+        }
     }
 
     /**
@@ -105,6 +127,39 @@ public class AddressBook {
     public void clear() {
         allPersons.clear();
         allTags.clear();
+        nameWordIndex.clear();
+        normalisedNameWordIndex.clear();
+        nameWordTrie.clear();
+        nameTrigramIndex.clear();
+        tagIndex.clear();
+        phoneDigitTrie.clear();
+        emailDomainIndex.clear();
+        modificationCount++;
+        for (AddressBookChangeListener listener : changeListeners) {
+            listener.cleared();
+        }
+    }
+
+    /**
+     * Returns the number of changes made to this address book since it was constructed.
+     * Two calls return the same value only if the address book was not changed in between.
+     */
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
+    /**
+     * Registers a listener to be notified of every subsequent change to this address book.
+     */
+    public void addChangeListener(AddressBookChangeListener listener) {
+        changeListeners.add(listener);
+    }
+
+    /**
+     * Stops notifying the given listener of changes to this address book.
+     */
+    public void removeChangeListener(AddressBookChangeListener listener) {
+        changeListeners.remove(listener);
     }
 
     /**
@@ -114,6 +169,86 @@ public class AddressBook {
         return new UniquePersonList(allPersons);
     }
 
+    /**
+     * Returns the persons whose names contain any of the given words, in address book order.
+     * Word matching is case sensitive.
+     */
+    public List<ReadOnlyPerson> getPersonsWithNameContainingAnyWord(Collection<String> words) {
+        return nameWordIndex.getPersonsWithAnyWord(words);
+    }
+
+    /**
+     * Returns the persons whose names contain any of the given words, in address book order.
+     * Word matching ignores case and accents.
+     *
+     * @see NormalisedNameWordIndex#normalise(String)
+     */
+    public List<ReadOnlyPerson> getPersonsWithNameContainingAnyWordIgnoringCase(Collection<String> words) {
+        return normalisedNameWordIndex.getPersonsWithAnyWord(words);
+    }
+
+    /**
+     * Returns the persons whose names contain a word within a few typos of any of the given words, closest first,
+     * then in address book order. Matching is case sensitive.
+     *
+     * @see NameTrigramIndex#getMaxEditDistance(String)
+     */
+    public List<ReadOnlyPerson> getPersonsWithNameContainingWordNearAny(Collection<String> words) {
+        return nameTrigramIndex.getPersonsWithWordNearAny(words);
+    }
+
+    /**
+     * Returns up to {@code limit} persons with a name word starting with the given prefix, ordered alphabetically
+     * by their first matching word, then in address book order. Matching is case sensitive.
+     */
+    public List<ReadOnlyPerson> getPersonsWithNameWordStartingWith(String prefix, int limit) {
+        return nameWordTrie.getPersonsWithWordStartingWith(prefix, limit);
+    }
+
+    /**
+     * Returns the persons having any of the given tags, in address book order.
+     */
+    public List<ReadOnlyPerson> getPersonsWithAnyTag(Collection<Tag> tags) {
+        return tagIndex.getPersonsWithAnyTag(tags);
+    }
+
+    /**
+     * Returns the persons having all of the given tags, in address book order.
+     */
+    public List<ReadOnlyPerson> getPersonsWithAllTags(Collection<Tag> tags) {
+        return tagIndex.getPersonsWithAllTags(tags);
+    }
+
+    /**
+     * Returns the persons with exactly the given phone number, in address book order.
+     */
+    public List<ReadOnlyPerson> getPersonsWithPhone(String number) {
+        return phoneDigitTrie.getPersonsWithPhone(number);
+    }
+
+    /**
+     * Returns the persons with a phone number starting with the given digits, by phone number in digit order,
+     * then in address book order.
+     */
+    public List<ReadOnlyPerson> getPersonsWithPhoneStartingWith(String prefix) {
+        return phoneDigitTrie.getPersonsWithPhoneStartingWith(prefix);
+    }
+
+    /**
+     * Returns the persons with an email at any of the given domains, in address book order.
+     * Domain matching is case insensitive.
+     */
+    public List<ReadOnlyPerson> getPersonsWithEmailDomain(Collection<String> domains) {
+        return emailDomainIndex.getPersonsWithAnyDomain(domains);
+    }
+
+    /**
+     * Returns the number of persons with an email at each domain, in alphabetical order of domain.
+     */
+    public SortedMap<String, Integer> countPersonsByEmailDomain() {
+        return emailDomainIndex.countPersonsByDomain();
+    }
+
     /**
      * Returns a new UniqueTagList of all tags in the address book at the time of the call.
      */
@@ -0,0 +1,24 @@
+package seedu.addressbook.data;
+
+import seedu.addressbook.data.person.ReadOnlyPerson;
+
+/**
+ * Receives a notification for every change made to an {@link AddressBook} after it is constructed.
+ */
+public interface AddressBookChangeListener {
+
+    /**
+     * Called after the given person has been added to the address book.
+     */
+    void personAdded(ReadOnlyPerson added);
+
+    /**
+     * Called after the given person has been removed from the address book.
+     */
+    void personRemoved(ReadOnlyPerson removed);
+
+    /**
+     * Called after all persons and tags have been cleared from the address book.
+     */
+    void cleared();
+}
@@ -0,0 +1,45 @@
+package seedu.addressbook.data.index;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import seedu.addressbook.data.person.ReadOnlyPerson;
+
+/**
+ * An inverted index from each email domain to the persons with an email at that domain.
+ * Postings are kept in the order the persons were indexed, so lookups return persons in address book order.
+ *
+ * Each domain is kept once, as the key of its postings list, however many persons share it.
+ */
+public class EmailDomainIndex extends PostingsIndex<String> {
+
+    @Override
+    protected Iterable<String> getKeys(ReadOnlyPerson person) {
+        return Collections.singletonList(person.getEmail().getDomain());
+    }
+
+    /**
+     * Returns the persons with an email at any of the given domains, in the order they were indexed.
+     * Matching is case insensitive.
+     */
+    public List<ReadOnlyPerson> getPersonsWithAnyDomain(Collection<String> domains) {
+        final List<String> lowerCaseDomains = new ArrayList<>();
+        for (String domain : domains) {
+            lowerCaseDomains.add(domain.toLowerCase(Locale.ROOT));
+        }
+        return getPersonsWithAnyKey(lowerCaseDomains);
+    }
+
+    /**
+     * Returns the number of persons with an email at each domain, in alphabetical order of domain.
+     * Takes time proportional to the number of distinct domains, times a logarithmic factor.
+     */
+    public SortedMap<String, Integer> countPersonsByDomain() {
+        return new TreeMap<>(countPersonsByKey());
+    }
+}
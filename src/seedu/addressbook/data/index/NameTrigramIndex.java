@@ -0,0 +1,209 @@
+package seedu.addressbook.data.index;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.addressbook.data.person.ReadOnlyPerson;
+
+/**
+ * An index of the words in persons' names for finding names with typos, through the trigrams (substrings of three
+ * characters) of the distinct words. Maps each word to the persons whose name contains it, and each trigram to the
+ * words having it.
+ *
+ * Words are padded with two spaces on each side before being split into trigrams, so short words still have a few
+ * trigrams, and trigrams at the start and end of a word differ from those in its middle.
+ * Keywords with too few trigrams to be found reliably through them are instead looked up by walking a radix tree
+ * of the words.
+ */
+public class NameTrigramIndex extends PostingsIndex<String> {
+
+    private static final String WORD_PADDING = "  ";
+
+    /**
+     * A single edit (insertion, deletion, substitution or swap of adjacent characters) changes at most this many
+     * of the trigrams of a word.
+     */
+    private static final int MAX_TRIGRAMS_CHANGED_PER_EDIT = 4;
+
+    /**
+     * Fewest trigrams a near word must share with a keyword for the trigrams to be used to find it. Requiring a
+     * single shared trigram, such as the padded first letter, would make most words candidates.
+     */
+    private static final int MIN_SELECTIVE_SHARED_TRIGRAMS = 2;
+
+    /** The distinct words having each trigram. */
+    private final Map<String, Set<String>> wordsByTrigram = new HashMap<>();
+    /** The distinct words, each stored under itself. */
+    private final RadixTree<String> words = RadixTree.withSortedChildren();
+
+    @Override
+    protected Iterable<String> getKeys(ReadOnlyPerson person) {
+        return person.getName().getWordsInName();
+    }
+
+    @Override
+    protected void onKeyAdded(String word) {
+        for (String trigram : getTrigrams(word)) {
+            wordsByTrigram.computeIfAbsent(trigram, t -> new HashSet<>()).add(word);
+        }
+        words.add(word, word);
+    }
+
+    @Override
+    protected void onKeyRemoved(String word) {
+        for (String trigram : getTrigrams(word)) {
+            final Set<String> trigramWords = wordsByTrigram.get(trigram);
+            trigramWords.remove(word);
+            if (trigramWords.isEmpty()) {
+                wordsByTrigram.remove(trigram);
+            }
+        }
+        words.remove(word, word);
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        wordsByTrigram.clear();
+        words.clear();
+    }
+
+    /**
+     * Returns the distinct trigrams of the given word, after padding it.
+     */
+    static Set<String> getTrigrams(String word) {
+        final String padded = WORD_PADDING + word + WORD_PADDING;
+        final Set<String> trigrams = new LinkedHashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            trigrams.add(padded.substring(i, i + 3));
+        }
+        return trigrams;
+    }
+
+    /**
+     * Returns the number of edits allowed between the given keyword and a word for the word to match it.
+     * Short keywords allow fewer edits, since a few edits can turn a short word into almost any other.
+     */
+    public static int getMaxEditDistance(String keyword) {
+        if (keyword.length() <= 2) {
+            return 0;
+        }
+        return keyword.length() <= 5 ? 1 : 2;
+    }
+
+    /**
+     * Returns the persons whose names contain a word within the allowed edit distance of any of the given
+     * keywords, closest first, then in the order they were indexed. Matching is case sensitive.
+     *
+     * Edit distances are computed once per distinct word rather than once per person, and only for words sharing
+     * enough trigrams with a keyword to be within its edit distance, or found near it in the radix tree of words.
+     * The cost therefore depends on the number of distinct words near the keywords and the number of persons
+     * returned, not on the number of persons.
+     *
+     * @see #getMaxEditDistance(String)
+     */
+    public List<ReadOnlyPerson> getPersonsWithWordNearAny(Collection<String> keywords) {
+        final Map<String, Integer> nearWords = new HashMap<>();
+        int maxDistance = 0;
+        for (String keyword : keywords) {
+            maxDistance = Math.max(maxDistance, getMaxEditDistance(keyword));
+            getWordsNear(keyword).forEach((word, distance) -> nearWords.merge(word, distance, Math::min));
+        }
+
+        final List<List<String>> wordsByDistance = new ArrayList<>();
+        for (int distance = 0; distance <= maxDistance; distance++) {
+            wordsByDistance.add(new ArrayList<>());
+        }
+        nearWords.forEach((word, distance) -> wordsByDistance.get(distance).add(word));
+
+        // persons with a word at each distance in turn, each in the order they were indexed
+        final List<ReadOnlyPerson> matched = new ArrayList<>();
+        final Set<ReadOnlyPerson> alreadyMatched = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (List<String> wordsAtDistance : wordsByDistance) {
+            for (ReadOnlyPerson person : getPersonsWithAnyKey(wordsAtDistance)) {
+                if (alreadyMatched.add(person)) {
+                    matched.add(person);
+                }
+            }
+        }
+        return matched;
+    }
+
+    /**
+     * Returns the indexed words within the allowed edit distance of the given keyword, with their distance to it.
+     */
+    private Map<String, Integer> getWordsNear(String keyword) {
+        final int maxDistance = getMaxEditDistance(keyword);
+        final Set<String> trigrams = getTrigrams(keyword);
+        // each edit removes at most a few of the keyword's trigrams, so a near word keeps the rest
+        final int minSharedTrigrams = trigrams.size() - MAX_TRIGRAMS_CHANGED_PER_EDIT * maxDistance;
+        if (minSharedTrigrams < MIN_SELECTIVE_SHARED_TRIGRAMS) {
+            return words.getKeysNear(keyword, maxDistance);
+        }
+
+        final Map<String, Integer> sharedTrigramCounts = new HashMap<>();
+        for (String trigram : trigrams) {
+            for (String word : wordsByTrigram.getOrDefault(trigram, Collections.emptySet())) {
+                sharedTrigramCounts.merge(word, 1, Integer::sum);
+            }
+        }
+        final Map<String, Integer> near = new HashMap<>();
+        sharedTrigramCounts.forEach((word, sharedTrigrams) -> {
+            if (sharedTrigrams >= minSharedTrigrams) {
+                final int distance = getEditDistance(keyword, word, maxDistance);
+                if (distance <= maxDistance) {
+                    near.put(word, distance);
+                }
+            }
+        });
+        return near;
+    }
+
+    /**
+     * Returns the number of insertions, deletions, substitutions and swaps of adjacent characters needed to turn
+     * one string into the other, or {@code bound + 1} if more than {@code bound} are needed.
+     * Takes time proportional to the product of the lengths of the strings, or less if the bound is exceeded early.
+     */
+    static int getEditDistance(String first, String second, int bound) {
+        if (Math.abs(first.length() - second.length()) > bound) {
+            return bound + 1;
+        }
+        // rows of the dynamic programming table: distances between prefixes of first and prefixes of second
+        int[] beforePrevious = new int[second.length() + 1];
+        int[] previous = new int[second.length() + 1];
+        int[] current = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            current[0] = i;
+            int rowMinimum = current[0];
+            for (int j = 1; j <= second.length(); j++) {
+                final int substitutionCost = first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1),
+                        previous[j - 1] + substitutionCost);
+                if (i > 1 && j > 1 && first.charAt(i - 1) == second.charAt(j - 2)
+                        && first.charAt(i - 2) == second.charAt(j - 1)) {
+                    current[j] = Math.min(current[j], beforePrevious[j - 2] + 1);
+                }
+                rowMinimum = Math.min(rowMinimum, current[j]);
+            }
+            if (rowMinimum > bound) {
+                return bound + 1; // later rows can only be larger
+            }
+            final int[] reused = beforePrevious;
+            beforePrevious = previous;
+            previous = current;
+            current = reused;
+        }
+        return Math.min(previous[second.length()], bound + 1);
+    }
+}
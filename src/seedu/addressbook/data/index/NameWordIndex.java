@@ -0,0 +1,26 @@
+package seedu.addressbook.data.index;
+
+import java.util.Collection;
+import java.util.List;
+
+import seedu.addressbook.data.person.ReadOnlyPerson;
+
+/**
+ * An inverted index from each word in a person's name to the persons whose name contains that word.
+ * Postings are kept in the order the persons were indexed, so lookups return persons in address book order.
+ */
+public class NameWordIndex extends PostingsIndex<String> {
+
+    @Override
+    protected Iterable<String> getKeys(ReadOnlyPerson person) {
+        return person.getName().getWordsInName();
+    }
+
+    /**
+     * Returns the persons whose names contain any of the given words, in the order they were indexed.
+     * Matching is exact and case sensitive.
+     */
+    public List<ReadOnlyPerson> getPersonsWithAnyWord(Collection<String> words) {
+        return getPersonsWithAnyKey(words);
+    }
+}
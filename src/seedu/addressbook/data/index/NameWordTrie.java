@@ -0,0 +1,50 @@
+package seedu.addressbook.data.index;
+
+import java.util.List;
+
+import seedu.addressbook.data.person.ReadOnlyPerson;
+
+/**
+ * A radix tree (compressed trie) over the words in persons' names, for finding persons by the start of a word.
+ *
+ * @see RadixTree
+ */
+public class NameWordTrie {
+
+    private final RadixTree<ReadOnlyPerson> tree = RadixTree.withSortedChildren();
+
+    /**
+     * Indexes the given person under each of the words in its name.
+     */
+    public void add(ReadOnlyPerson person) {
+        for (String word : person.getName().getWordsInName()) {
+            tree.add(word, person); // a person with the same word twice is only added once
+        }
+    }
+
+    /**
+     * Removes the equivalent person from under each of the words in its name.
+     */
+    public void remove(ReadOnlyPerson person) {
+        for (String word : person.getName().getWordsInName()) {
+            tree.remove(word, person);
+        }
+    }
+
+    /**
+     * Removes all persons from the index.
+     */
+    public void clear() {
+        tree.clear();
+    }
+
+    /**
+     * Returns up to {@code limit} persons with a name word starting with the given prefix.
+     * Persons are ordered by their first matching word in character order, then in the order they were indexed.
+     * Matching is case sensitive. Takes time proportional to the length of the prefix plus the number of words
+     * and persons visited, which is at most the number of persons returned times the number of words in a name.
+     */
+    public List<ReadOnlyPerson> getPersonsWithWordStartingWith(String prefix, int limit) {
+        return tree.getValuesWithKeyStartingWith(prefix, limit);
+    }
+}
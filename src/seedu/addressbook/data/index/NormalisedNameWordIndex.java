@@ -0,0 +1,52 @@
+package seedu.addressbook.data.index;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+import seedu.addressbook.data.person.ReadOnlyPerson;
+
+/**
+ * An inverted index from each normalised word in a person's name to the persons whose name contains that word.
+ * Words are normalised once, when a person is indexed, so that words differing only in case or accents have the
+ * same key. Postings are kept in the order the persons were indexed, so lookups return persons in address book
+ * order.
+ */
+public class NormalisedNameWordIndex extends PostingsIndex<String> {
+
+    /** Combining marks, such as the accents left as separate characters by canonical decomposition. */
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+    @Override
+    protected Iterable<String> getKeys(ReadOnlyPerson person) {
+        final List<String> words = new ArrayList<>();
+        for (String word : person.getName().getWordsInName()) {
+            words.add(normalise(word));
+        }
+        return words;
+    }
+
+    /**
+     * Returns the given word with compatibility characters (such as ligatures and full-width letters) replaced by
+     * their plain forms, accents removed and letters in lower case.
+     */
+    public static String normalise(String word) {
+        final String decomposed = Normalizer.normalize(word, Normalizer.Form.NFKD);
+        return COMBINING_MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns the persons whose names contain any of the given words, ignoring case and accents, in the order they
+     * were indexed.
+     */
+    public List<ReadOnlyPerson> getPersonsWithAnyWord(Collection<String> words) {
+        final List<String> normalisedWords = new ArrayList<>();
+        for (String word : words) {
+            normalisedWords.add(normalise(word));
+        }
+        return getPersonsWithAnyKey(normalisedWords);
+    }
+}
@@ -0,0 +1,57 @@
+package seedu.addressbook.data.index;
+
+import java.util.List;
+
+import seedu.addressbook.data.person.ReadOnlyPerson;
+
+/**
+ * A radix tree (compressed trie) over the digits of persons' phone numbers, for finding persons by their whole
+ * phone number or by its start, such as a country or area code.
+ *
+ * Nodes keep their children in an array indexed by digit, so a lookup visits at most one node per digit of the
+ * number looked up, without comparing characters to choose a child.
+ *
+ * @see RadixTree
+ */
+public class PhoneDigitTrie {
+
+    private final RadixTree<ReadOnlyPerson> tree = RadixTree.withDigitChildren();
+
+    /**
+     * Indexes the given person under its phone number.
+     */
+    public void add(ReadOnlyPerson person) {
+        tree.add(person.getPhone().value, person);
+    }
+
+    /**
+     * Removes the equivalent person from under its phone number.
+     */
+    public void remove(ReadOnlyPerson person) {
+        tree.remove(person.getPhone().value, person);
+    }
+
+    /**
+     * Removes all persons from the index.
+     */
+    public void clear() {
+        tree.clear();
+    }
+
+    /**
+     * Returns the persons with exactly the given phone number, in the order they were indexed.
+     * Takes time proportional to the length of the number plus the number of persons returned.
+     */
+    public List<ReadOnlyPerson> getPersonsWithPhone(String number) {
+        return tree.get(number);
+    }
+
+    /**
+     * Returns the persons with a phone number starting with the given digits.
+     * Persons are ordered by phone number in digit order, then in the order they were indexed.
+     * Takes time proportional to the length of the prefix plus the number of persons returned.
+     */
+    public List<ReadOnlyPerson> getPersonsWithPhoneStartingWith(String prefix) {
+        return tree.getValuesWithKeyStartingWith(prefix, Integer.MAX_VALUE);
+    }
+}
@@ -0,0 +1,220 @@
+package seedu.addressbook.data.index;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+import seedu.addressbook.data.person.ReadOnlyPerson;
+
+/**
+ * An inverted index from keys derived from a person to the persons having that key.
+ * Postings are kept in the order the persons were indexed, so lookups return persons in address book order.
+ * Persons are tracked by reference, so a person can only be removed through the same object that was indexed.
+ *
+ * @param <K> type of the keys, which must implement equals and hashCode
+ */
+public abstract class PostingsIndex<K> {
+
+    /**
+     * A person in a postings list, tagged with the order in which it was indexed.
+     */
+    private static class Posting {
+        private final long sequence;
+        private final ReadOnlyPerson person;
+
+        Posting(long sequence, ReadOnlyPerson person) {
+            this.sequence = sequence;
+            this.person = person;
+        }
+    }
+
+    private final Map<K, List<Posting>> postings = new HashMap<>();
+    /** Posting of every indexed person, found by reference so that removal never compares person data. */
+    private final Map<ReadOnlyPerson, Posting> postingByPerson = new IdentityHashMap<>();
+    private long nextSequence = 0;
+
+    /**
+     * Returns the keys the given person is indexed under. May contain duplicates.
+     */
+    protected abstract Iterable<K> getKeys(ReadOnlyPerson person);
+
+    /**
+     * Called when a key gets its first person. Does nothing unless overridden.
+     */
+    protected void onKeyAdded(K key) {}
+
+    /**
+     * Called when the last person with a key is removed, but not when the index is cleared.
+     * Does nothing unless overridden.
+     */
+    protected void onKeyRemoved(K key) {}
+
+    /**
+     * Indexes the given person under each of its keys.
+     */
+    public void add(ReadOnlyPerson person) {
+        final Posting posting = new Posting(nextSequence++, person);
+        postingByPerson.put(person, posting);
+        for (K key : getKeys(person)) {
+            List<Posting> keyPostings = postings.get(key);
+            if (keyPostings == null) {
+                keyPostings = new ArrayList<>();
+                postings.put(key, keyPostings);
+                onKeyAdded(key);
+            }
+            if (!isLastPostingFor(keyPostings, posting)) { // a person can have the same key twice
+                keyPostings.add(posting);
+            }
+        }
+    }
+
+    private static boolean isLastPostingFor(List<Posting> keyPostings, Posting posting) {
+        return !keyPostings.isEmpty() && keyPostings.get(keyPostings.size() - 1) == posting;
+    }
+
+    /**
+     * Removes the given person, which must be the same object that was indexed, from the postings of each of its
+     * keys. Does nothing if the object was not indexed.
+     * Takes logarithmic time in the number of persons sharing each key to find the person's posting.
+     */
+    public void remove(ReadOnlyPerson person) {
+        final Posting posting = postingByPerson.remove(person);
+        if (posting == null) {
+            return;
+        }
+        for (K key : getKeys(person)) {
+            final List<Posting> keyPostings = postings.get(key);
+            if (keyPostings == null) {
+                continue;
+            }
+            final int index = indexOfSequence(keyPostings, posting.sequence);
+            if (index >= 0) { // absent if the person had the same key twice and it was removed already
+                keyPostings.remove(index);
+            }
+            if (keyPostings.isEmpty()) {
+                postings.remove(key);
+                onKeyRemoved(key);
+            }
+        }
+    }
+
+    /**
+     * Returns the index of the posting with the given sequence in the given postings list, or -1 if there is none.
+     * The list must be in sequence order, as every postings list is.
+     */
+    private static int indexOfSequence(List<Posting> keyPostings, long sequence) {
+        int low = 0;
+        int high = keyPostings.size() - 1;
+        while (low <= high) {
+            final int middle = (low + high) >>> 1;
+            final long middleSequence = keyPostings.get(middle).sequence;
+            if (middleSequence < sequence) {
+                low = middle + 1;
+            } else if (middleSequence > sequence) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Removes all persons from the index.
+     */
+    public void clear() {
+        postings.clear();
+        postingByPerson.clear();
+    }
+
+    /**
+     * Returns the persons having any of the given keys, in the order they were indexed.
+     */
+    protected List<ReadOnlyPerson> getPersonsWithAnyKey(Collection<K> keys) {
+        final PriorityQueue<PostingCursor> cursors = new PriorityQueue<>();
+        for (K key : keys) {
+            final List<Posting> keyPostings = postings.get(key);
+            if (keyPostings != null) {
+                cursors.add(new PostingCursor(keyPostings.iterator()));
+            }
+        }
+
+        // k-way merge of the postings lists, skipping persons already matched by an earlier key
+        final List<ReadOnlyPerson> matched = new ArrayList<>();
+        long lastSequence = -1;
+        while (!cursors.isEmpty()) {
+            final PostingCursor cursor = cursors.poll();
+            if (cursor.current.sequence != lastSequence) {
+                matched.add(cursor.current.person);
+                lastSequence = cursor.current.sequence;
+            }
+            if (cursor.advance()) {
+                cursors.add(cursor);
+            }
+        }
+        return matched;
+    }
+
+    /**
+     * Returns the persons having the given key, in the order they were indexed.
+     */
+    protected List<ReadOnlyPerson> getPersonsWithKey(K key) {
+        final List<ReadOnlyPerson> matched = new ArrayList<>();
+        for (Posting posting : postings.getOrDefault(key, Collections.emptyList())) {
+            matched.add(posting.person);
+        }
+        return matched;
+    }
+
+    /**
+     * Returns the number of persons having the given key.
+     */
+    protected int countPersonsWithKey(K key) {
+        final List<Posting> keyPostings = postings.get(key);
+        return keyPostings == null ? 0 : keyPostings.size();
+    }
+
+    /**
+     * Returns the number of persons having each key, for every key at least one person has.
+     * Takes time proportional to the number of distinct keys, not the number of persons.
+     */
+    protected Map<K, Integer> countPersonsByKey() {
+        final Map<K, Integer> counts = new HashMap<>();
+        for (Map.Entry<K, List<Posting>> entry : postings.entrySet()) {
+            counts.put(entry.getKey(), entry.getValue().size());
+        }
+        return counts;
+    }
+
+    /**
+     * Iterates over a single postings list in sequence order.
+     */
+    private static class PostingCursor implements Comparable<PostingCursor> {
+        private final Iterator<Posting> remaining;
+        private Posting current;
+
+        PostingCursor(Iterator<Posting> postings) {
+            this.remaining = postings;
+            this.current = postings.next();
+        }
+
+        boolean advance() {
+            if (!remaining.hasNext()) {
+                return false;
+            }
+            current = remaining.next();
+            return true;
+        }
+
+        @Override
+        public int compareTo(PostingCursor other) {
+            return Long.compare(current.sequence, other.current.sequence);
+        }
+    }
+}
@@ -0,0 +1,434 @@
+package seedu.addressbook.data.index;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+/**
+ * A radix tree (compressed trie) from string keys to the values added under them, for finding values by their
+ * whole key or by the start of it.
+ *
+ * Each edge is labelled with a non-empty string. Every node other than the root has values or at least two
+ * children, so the tree has fewer than twice as many nodes as distinct keys, and visiting the keys under a node
+ * visits a number of nodes proportional to the number of keys.
+ *
+ * How each node keeps its children is chosen when the tree is created: {@link #withSortedChildren()} accepts keys
+ * over any characters, and {@link #withDigitChildren()} uses less memory and time for keys made only of digits.
+ *
+ * @param <V> type of the values, which must implement equals
+ */
+class RadixTree<V> {
+
+    /**
+     * A node, reached from its parent through an edge with the given label.
+     */
+    private static class Node<V> {
+        private String label;
+        private final Children<V> children;
+        /** Values with a key ending at this node, in the order they were added. */
+        private final List<V> values = new ArrayList<>();
+
+        Node(String label, Children<V> children) {
+            this.label = label;
+            this.children = children;
+        }
+    }
+
+    /**
+     * The children of a node, by the first character of their label.
+     */
+    private interface Children<V> {
+        Node<V> get(char first);
+
+        /** Adds the child, replacing any child whose label starts with the same character. */
+        void put(Node<V> child);
+
+        void remove(char first);
+
+        int size();
+
+        /** Returns the children in descending order of the first character of their label. */
+        List<Node<V>> inDescendingOrder();
+
+        void clear();
+    }
+
+    /**
+     * Children in a sorted map, for keys over any characters.
+     */
+    private static class SortedChildren<V> implements Children<V> {
+        private final TreeMap<Character, Node<V>> children = new TreeMap<>();
+
+        @Override
+        public Node<V> get(char first) {
+            return children.get(first);
+        }
+
+        @Override
+        public void put(Node<V> child) {
+            children.put(child.label.charAt(0), child);
+        }
+
+        @Override
+        public void remove(char first) {
+            children.remove(first);
+        }
+
+        @Override
+        public int size() {
+            return children.size();
+        }
+
+        @Override
+        public List<Node<V>> inDescendingOrder() {
+            return new ArrayList<>(children.descendingMap().values());
+        }
+
+        @Override
+        public void clear() {
+            children.clear();
+        }
+    }
+
+    /**
+     * Children in an array indexed by digit, allocated when the first child is added, for keys made only of the
+     * digits 0 to 9.
+     */
+    private static class DigitChildren<V> implements Children<V> {
+        private static final int RADIX = 10;
+
+        private Node<V>[] children;
+        private int size = 0;
+
+        @Override
+        public Node<V> get(char first) {
+            return children == null ? null : children[first - '0'];
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void put(Node<V> child) {
+            if (children == null) {
+                children = (Node<V>[]) new Node<?>[RADIX];
+            }
+            final int slot = child.label.charAt(0) - '0';
+            if (children[slot] == null) {
+                size++;
+            }
+            children[slot] = child;
+        }
+
+        @Override
+        public void remove(char first) {
+            children[first - '0'] = null;
+            size--;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public List<Node<V>> inDescendingOrder() {
+            final List<Node<V>> descending = new ArrayList<>(size);
+            for (int digit = RADIX - 1; children != null && digit >= 0; digit--) {
+                if (children[digit] != null) {
+                    descending.add(children[digit]);
+                }
+            }
+            return descending;
+        }
+
+        @Override
+        public void clear() {
+            children = null;
+            size = 0;
+        }
+    }
+
+    private final Supplier<Children<V>> childrenFactory;
+    private final Node<V> root;
+
+    private RadixTree(Supplier<Children<V>> childrenFactory) {
+        this.childrenFactory = childrenFactory;
+        this.root = new Node<>("", childrenFactory.get());
+    }
+
+    /**
+     * Returns an empty tree accepting keys over any characters, with keys visited in character order.
+     */
+    static <V> RadixTree<V> withSortedChildren() {
+        return new RadixTree<>(SortedChildren::new);
+    }
+
+    /**
+     * Returns an empty tree accepting only keys made of the digits 0 to 9, with keys visited in digit order.
+     */
+    static <V> RadixTree<V> withDigitChildren() {
+        return new RadixTree<>(DigitChildren::new);
+    }
+
+    /**
+     * Adds the value under the given key. Has no effect if the value is already the last one added under the key.
+     */
+    void add(String key, V value) {
+        final List<V> values = findOrCreateNode(key).values;
+        if (values.isEmpty() || values.get(values.size() - 1) != value) {
+            values.add(value);
+        }
+    }
+
+    private Node<V> findOrCreateNode(String key) {
+        Node<V> node = root;
+        int matched = 0;
+        while (matched < key.length()) {
+            final Node<V> child = node.children.get(key.charAt(matched));
+            if (child == null) {
+                final Node<V> leaf = new Node<>(key.substring(matched), childrenFactory.get());
+                node.children.put(leaf);
+                return leaf;
+            }
+            final int common = getCommonPrefixLength(child.label, key, matched);
+            if (common < child.label.length()) {
+                // split the edge to the child at the end of the common part
+                final Node<V> middle = new Node<>(child.label.substring(0, common), childrenFactory.get());
+                child.label = child.label.substring(common);
+                middle.children.put(child);
+                node.children.put(middle);
+                node = middle;
+            } else {
+                node = child;
+            }
+            matched += common;
+        }
+        return node;
+    }
+
+    private static int getCommonPrefixLength(String label, String key, int keyStart) {
+        final int maxLength = Math.min(label.length(), key.length() - keyStart);
+        int length = 0;
+        while (length < maxLength && label.charAt(length) == key.charAt(keyStart + length)) {
+            length++;
+        }
+        return length;
+    }
+
+    /**
+     * Removes the values equal to the given one from under the given key.
+     */
+    void remove(String key, V value) {
+        final List<Node<V>> path = findPath(key);
+        if (path == null) {
+            return;
+        }
+        path.get(path.size() - 1).values.removeIf(added -> added.equals(value));
+
+        // restore the node invariant on the path, from the bottom up; only the last two nodes can break it
+        for (int i = path.size() - 1; i >= Math.max(1, path.size() - 2); i--) {
+            compact(path.get(i - 1), path.get(i));
+        }
+    }
+
+    /**
+     * Returns the nodes from the root to the node at which the given key ends,
+     * or null if the key does not end at a node.
+     */
+    private List<Node<V>> findPath(String key) {
+        final List<Node<V>> path = new ArrayList<>();
+        Node<V> node = root;
+        int matched = 0;
+        path.add(node);
+        while (matched < key.length()) {
+            node = node.children.get(key.charAt(matched));
+            if (node == null || !key.startsWith(node.label, matched)) {
+                return null;
+            }
+            matched += node.label.length();
+            path.add(node);
+        }
+        return path;
+    }
+
+    /**
+     * Removes the given node if it has no values and no children,
+     * or merges it into its only child if it has no values and one child.
+     */
+    private static <V> void compact(Node<V> parent, Node<V> node) {
+        if (!node.values.isEmpty() || node.children.size() > 1) {
+            return;
+        }
+        if (node.children.size() == 0) {
+            parent.children.remove(node.label.charAt(0));
+            return;
+        }
+        final Node<V> onlyChild = node.children.inDescendingOrder().get(0);
+        onlyChild.label = node.label + onlyChild.label;
+        parent.children.put(onlyChild);
+    }
+
+    /**
+     * Removes all keys and values from the tree.
+     */
+    void clear() {
+        root.children.clear();
+        root.values.clear();
+    }
+
+    /**
+     * Returns the values under exactly the given key, in the order they were added.
+     * Takes time proportional to the length of the key plus the number of values returned.
+     */
+    List<V> get(String key) {
+        final List<Node<V>> path = findPath(key);
+        return path == null ? new ArrayList<>() : new ArrayList<>(path.get(path.size() - 1).values);
+    }
+
+    /**
+     * Returns up to {@code limit} distinct values under keys starting with the given prefix.
+     * Values are ordered by their first key in character order, then in the order they were added, and a value
+     * under several keys is returned once. Takes time proportional to the length of the prefix plus the number of
+     * keys and values visited, which is at most the number of values returned times the number of keys per value.
+     */
+    List<V> getValuesWithKeyStartingWith(String prefix, int limit) {
+        final Node<V> subtree = findSubtree(prefix);
+        final List<V> matched = new ArrayList<>();
+        if (subtree == null) {
+            return matched;
+        }
+        final Set<V> alreadyMatched = Collections.newSetFromMap(new IdentityHashMap<>());
+        final Deque<Node<V>> toVisit = new ArrayDeque<>();
+        toVisit.push(subtree);
+        while (!toVisit.isEmpty() && matched.size() < limit) {
+            final Node<V> node = toVisit.pop();
+            for (V value : node.values) {
+                if (matched.size() < limit && alreadyMatched.add(value)) {
+                    matched.add(value);
+                }
+            }
+            for (Node<V> child : node.children.inDescendingOrder()) {
+                toVisit.push(child); // pushed in reverse, so visited in character order
+            }
+        }
+        return matched;
+    }
+
+    /**
+     * Returns the keys within {@code maxDistance} insertions, deletions, substitutions and swaps of adjacent
+     * characters of the given target, with their distance to it. Matching is case sensitive.
+     *
+     * Walks down from the root, extending one row of the edit distance table per character, and skips every
+     * subtree whose smallest distance so far already exceeds {@code maxDistance}. The cost depends on the number
+     * of nodes whose key prefix is within that distance of a prefix of the target, not on the number of keys.
+     */
+    Map<String, Integer> getKeysNear(String target, int maxDistance) {
+        final Map<String, Integer> near = new HashMap<>();
+        final int[] firstRow = new int[target.length() + 1];
+        for (int j = 0; j <= target.length(); j++) {
+            firstRow[j] = j;
+        }
+        final Deque<NearWalkStep<V>> toVisit = new ArrayDeque<>();
+        for (Node<V> child : root.children.inDescendingOrder()) {
+            toVisit.push(new NearWalkStep<>(child, "", null, firstRow));
+        }
+        while (!toVisit.isEmpty()) {
+            final NearWalkStep<V> step = toVisit.pop();
+            final String key = step.keyBeforeNode + step.node.label;
+            int[] rowBefore = step.rowBefore;
+            int[] row = step.row;
+            boolean isPruned = false;
+            for (int i = step.keyBeforeNode.length(); i < key.length() && !isPruned; i++) {
+                final int[] nextRow = getNextRow(target, key, i, row, rowBefore);
+                rowBefore = row;
+                row = nextRow;
+                isPruned = getMinimum(row) > maxDistance; // longer keys can only be further away
+            }
+            if (isPruned) {
+                continue;
+            }
+            if (!step.node.values.isEmpty() && row[target.length()] <= maxDistance) {
+                near.put(key, row[target.length()]);
+            }
+            for (Node<V> child : step.node.children.inDescendingOrder()) {
+                toVisit.push(new NearWalkStep<>(child, key, rowBefore, row));
+            }
+        }
+        return near;
+    }
+
+    /**
+     * A node still to be visited by {@link #getKeysNear}, with the rows of the edit distance table for the key
+     * up to the node and for that key without its last character.
+     */
+    private static class NearWalkStep<V> {
+        private final Node<V> node;
+        private final String keyBeforeNode;
+        private final int[] rowBefore;
+        private final int[] row;
+
+        NearWalkStep(Node<V> node, String keyBeforeNode, int[] rowBefore, int[] row) {
+            this.node = node;
+            this.keyBeforeNode = keyBeforeNode;
+            this.rowBefore = rowBefore;
+            this.row = row;
+        }
+    }
+
+    /**
+     * Returns the row of the edit distance table for the first {@code keyIndex + 1} characters of the key, given
+     * the rows for the first {@code keyIndex} and {@code keyIndex - 1} characters.
+     */
+    private static int[] getNextRow(String target, String key, int keyIndex, int[] row, int[] rowBefore) {
+        final int[] nextRow = new int[row.length];
+        final char c = key.charAt(keyIndex);
+        nextRow[0] = row[0] + 1;
+        for (int j = 1; j <= target.length(); j++) {
+            final int substitutionCost = c == target.charAt(j - 1) ? 0 : 1;
+            nextRow[j] = Math.min(Math.min(row[j] + 1, nextRow[j - 1] + 1), row[j - 1] + substitutionCost);
+            if (keyIndex > 0 && j > 1
+                    && c == target.charAt(j - 2) && key.charAt(keyIndex - 1) == target.charAt(j - 1)) {
+                nextRow[j] = Math.min(nextRow[j], rowBefore[j - 2] + 1);
+            }
+        }
+        return nextRow;
+    }
+
+    private static int getMinimum(int[] row) {
+        int minimum = row[0];
+        for (int distance : row) {
+            minimum = Math.min(minimum, distance);
+        }
+        return minimum;
+    }
+
+    /**
+     * Returns the node under which every key starts with the given prefix, or null if no key does.
+     */
+    private Node<V> findSubtree(String prefix) {
+        Node<V> node = root;
+        int matched = 0;
+        while (matched < prefix.length()) {
+            node = node.children.get(prefix.charAt(matched));
+            if (node == null) {
+                return null;
+            }
+            final int remaining = prefix.length() - matched;
+            if (remaining <= node.label.length()) {
+                return node.label.startsWith(prefix.substring(matched)) ? node : null;
+            }
+            if (!prefix.startsWith(node.label, matched)) {
+                return null;
+            }
+            matched += node.label.length();
+        }
+        return node;
+    }
+}
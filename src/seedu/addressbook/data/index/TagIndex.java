@@ -0,0 +1,49 @@
+package seedu.addressbook.data.index;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import seedu.addressbook.data.person.ReadOnlyPerson;
+import seedu.addressbook.data.tag.Tag;
+import seedu.addressbook.data.tag.TagSet;
+
+/**
+ * An inverted index from each tag to the persons having that tag.
+ * Postings are kept in the order the persons were indexed, so lookups return persons in address book order.
+ */
+public class TagIndex extends PostingsIndex<Tag> {
+
+    @Override
+    protected Iterable<Tag> getKeys(ReadOnlyPerson person) {
+        return person.getTags();
+    }
+
+    /**
+     * Returns the persons having any of the given tags, in the order they were indexed.
+     */
+    public List<ReadOnlyPerson> getPersonsWithAnyTag(Collection<Tag> tags) {
+        return getPersonsWithAnyKey(tags);
+    }
+
+    /**
+     * Returns the persons having all of the given tags, in the order they were indexed.
+     * Every match has the rarest of the given tags, so only persons with that tag are checked, each with a
+     * word-wise comparison of tag bitsets. Takes time proportional to the number of persons with the rarest tag.
+     */
+    public List<ReadOnlyPerson> getPersonsWithAllTags(Collection<Tag> tags) {
+        if (tags.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Tag rarestTag = null;
+        for (Tag tag : tags) {
+            if (rarestTag == null || countPersonsWithKey(tag) < countPersonsWithKey(rarestTag)) {
+                rarestTag = tag;
+            }
+        }
+        final TagSet required = new TagSet(tags);
+        final List<ReadOnlyPerson> matched = getPersonsWithKey(rarestTag);
+        matched.removeIf(person -> !person.getTags().containsAll(required));
+        return matched;
+    }
+}
@@ -1,5 +1,7 @@
 package seedu.addressbook.data.person;
 
+import java.util.Locale;
+
 import seedu.addressbook.data.exception.IllegalValueException;
 
 /**
@@ -37,6 +39,13 @@ public class Email {
         return test.matches(EMAIL_VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the part of this email after the '@', in lower case since domain names are case insensitive.
+     */
+    public String getDomain() {
+        return value.substring(value.indexOf('@') + 1).toLowerCase(Locale.ROOT);
+    }
+
     @Override
     public String toString() {
         return value;
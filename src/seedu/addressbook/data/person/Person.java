@@ -1,5 +1,6 @@
 package seedu.addressbook.data.person;
 
+import seedu.addressbook.data.tag.TagSet;
 import seedu.addressbook.data.tag.UniqueTagList;
 
 import java.util.Objects;
@@ -15,7 +16,8 @@ public class Person implements ReadOnlyPerson {
     private Email email;
     private Address address;
 
-    private final UniqueTagList tags;
+    private TagSet tags;
+
     /**
      * Assumption: Every field must be present and not null.
      */
@@ -24,14 +26,18 @@ public class Person implements ReadOnlyPerson {
         this.phone = phone;
         this.email = email;
         this.address = address;
-        this.tags = new UniqueTagList(tags); // protect internal tags from changes in the arg list
+        this.tags = new TagSet(tags); // protect internal tags from changes in the arg list
     }
 
     /**
      * Copy constructor.
      */
     public Person(ReadOnlyPerson source) {
-        this(source.getName(), source.getPhone(), source.getEmail(), source.getAddress(), source.getTags());
+        this.name = source.getName();
+        this.phone = source.getPhone();
+        this.email = source.getEmail();
+        this.address = source.getAddress();
+        this.tags = source.getTags(); // immutable, so can be shared
     }
 
     @Override
@@ -55,15 +61,15 @@ public class Person implements ReadOnlyPerson {
     }
 
     @Override
-    public UniqueTagList getTags() {
-        return new UniqueTagList(tags);
+    public TagSet getTags() {
+        return tags;
     }
 
     /**
      * Replaces this person's tags with the tags in the argument tag list.
      */
     public void setTags(UniqueTagList replacement) {
-        tags.setTags(replacement);
+        tags = new TagSet(replacement);
     }
 
     @Override
@@ -1,7 +1,7 @@
 package seedu.addressbook.data.person;
 
 import seedu.addressbook.data.tag.Tag;
-import seedu.addressbook.data.tag.UniqueTagList;
+import seedu.addressbook.data.tag.TagSet;
 
 /**
  * A read-only immutable interface for a Person in the addressbook.
@@ -15,10 +15,9 @@ public interface ReadOnlyPerson {
     Address getAddress();
 
     /**
-     * Returns a new TagList that is a deep copy of the internal TagList,
-     * changes on the returned list will not affect the person's internal tags.
+     * Returns the person's tags. The returned set is immutable and is not a copy.
      */
-    UniqueTagList getTags();
+    TagSet getTags();
 
     /**
      * Returns true if both persons have the same identity fields (name and telephone).
@@ -1,21 +1,27 @@
 package seedu.addressbook.data.person;
 
-import java.util.ArrayList;
+import java.util.AbstractList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 
+import seedu.addressbook.common.PersistentSortedMap;
 import seedu.addressbook.common.Utils;
 import seedu.addressbook.data.exception.DuplicateDataException;
 
-
-
 /**
  * A list of persons. Does not allow null elements or duplicates.
+ * Copying a list takes constant time, and adding or removing a person takes logarithmic time.
+ * Checking whether the list contains a person takes constant time, except that the first check after the list is
+ * copied takes linear time, since it rebuilds the hash set of persons that copies do not share.
+ * Not safe for use from multiple threads, even for checks alone.
  *
- * @see Person#equals(Object)
+ * @see ReadOnlyPerson#isSamePerson(ReadOnlyPerson)
  * @see Utils#elementsAreUnique(Collection)
  */
 public class UniquePersonList implements Iterable<Person> {
@@ -35,7 +41,53 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public static class PersonNotFoundException extends Exception {}
 
-    private final List<Person> internalList = new ArrayList<>();
+    /**
+     * Key made of the identity fields compared by {@link ReadOnlyPerson#isSamePerson}.
+     */
+    private static class PersonIdentity {
+        private static final Comparator<PersonIdentity> ORDER =
+                Comparator.<PersonIdentity, String>comparing(identity -> identity.name.fullName)
+                        .thenComparing(identity -> identity.phone.value);
+
+        private final Name name;
+        private final Phone phone;
+
+        PersonIdentity(ReadOnlyPerson person) {
+            this.name = person.getName();
+            this.phone = person.getPhone();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof PersonIdentity // instanceof handles nulls
+                    && this.name.equals(((PersonIdentity) other).name)
+                    && this.phone.equals(((PersonIdentity) other).phone));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, phone);
+        }
+    }
+
+    /*
+     * Persons are kept in persistent maps, so copying the list only copies the references below, and both copies
+     * share the same maps until either is changed. Each change replaces the maps with updated versions.
+     */
+
+    /** Persons in list order, keyed by the order in which they were added. */
+    private PersistentSortedMap<Long, Person> personsBySequence =
+            PersistentSortedMap.empty(Comparator.naturalOrder());
+    /** Key in {@link #personsBySequence} of every person, for logarithmic time duplicate checks and removal. */
+    private PersistentSortedMap<PersonIdentity, Long> sequenceByIdentity =
+            PersistentSortedMap.empty(PersonIdentity.ORDER);
+    /**
+     * Identity of every person, for constant time checks. Not shared between copies, so a copy leaves it null
+     * until its first check rebuilds it.
+     */
+    private Set<PersonIdentity> identities = new HashSet<>();
+    private long nextSequence = 0;
 
     /**
      * Constructs empty person list.
@@ -46,30 +98,29 @@ public class UniquePersonList implements Iterable<Person> {
      * Constructs a person list with the given persons.
      */
     public UniquePersonList(Person... persons) throws DuplicatePersonException {
-        final List<Person> initialTags = Arrays.asList(persons);
-        if (!Utils.elementsAreUnique(initialTags)) {
-            throw new DuplicatePersonException();
-        }
-        internalList.addAll(initialTags);
+        this(Arrays.asList(persons));
     }
 
     /**
      * Constructs a list from the items in the given collection.
      * @param persons a collection of persons
-     * @throws DuplicatePersonException if the {@code persons} contains duplicate persons
+     * @throws DuplicatePersonException if the {@code persons} contains duplicate persons, as compared by
+     *    {@link ReadOnlyPerson#isSamePerson}
      */
     public UniquePersonList(Collection<Person> persons) throws DuplicatePersonException {
-        if (!Utils.elementsAreUnique(persons)) {
-            throw new DuplicatePersonException();
+        for (Person person : persons) {
+            add(person);
         }
-        internalList.addAll(persons);
     }
 
     /**
-     * Constructs a shallow copy of the list.
+     * Constructs a shallow copy of the list. Takes constant time.
      */
     public UniquePersonList(UniquePersonList source) {
-        internalList.addAll(source.internalList);
+        personsBySequence = source.personsBySequence;
+        sequenceByIdentity = source.sequenceByIdentity;
+        identities = null;
+        nextSequence = source.nextSequence;
     }
 
     /**
@@ -78,7 +129,33 @@ public class UniquePersonList implements Iterable<Person> {
      * Any changes to the internal list/elements are immediately visible in the returned list.
      */
     public List<ReadOnlyPerson> immutableListView() {
-        return Collections.unmodifiableList(internalList);
+        return new AbstractList<ReadOnlyPerson>() {
+            @Override
+            public ReadOnlyPerson get(int index) {
+                return personsBySequence.getByIndex(index);
+            }
+
+            @Override
+            public int size() {
+                return personsBySequence.size();
+            }
+
+            @Override
+            public Iterator<ReadOnlyPerson> iterator() {
+                final Iterator<Person> persons = personsBySequence.valueIterator();
+                return new Iterator<ReadOnlyPerson>() {
+                    @Override
+                    public boolean hasNext() {
+                        return persons.hasNext();
+                    }
+
+                    @Override
+                    public ReadOnlyPerson next() {
+                        return persons.next();
+                    }
+                };
+            }
+        };
     }
 
 
@@ -88,12 +165,17 @@ public class UniquePersonList implements Iterable<Person> {
      * defines a weaker notion of equality.
      */
     public boolean contains(ReadOnlyPerson toCheck) {
-        for (Person p : internalList) {
-            if (p.isSamePerson(toCheck)) {
-                return true;
+        return toCheck != null && getIdentities().contains(new PersonIdentity(toCheck));
+    }
+
+    private Set<PersonIdentity> getIdentities() {
+        if (identities == null) {
+            identities = new HashSet<>();
+            for (Person person : this) {
+                identities.add(new PersonIdentity(person));
             }
         }
-        return false;
+        return identities;
     }
 
     /**
@@ -107,37 +189,66 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
-        internalList.add(toAdd);
+        final long sequence = nextSequence++;
+        final PersonIdentity identity = new PersonIdentity(toAdd);
+        personsBySequence = personsBySequence.put(sequence, toAdd);
+        sequenceByIdentity = sequenceByIdentity.put(identity, sequence);
+        identities.add(identity); // built by the contains check above
     }
 
     /**
      * Removes the equivalent person from the list.
      *
+     * @return the person removed, which is the object held by the list rather than the given one.
      * @throws PersonNotFoundException if no such person could be found in the list.
      */
-    public void remove(ReadOnlyPerson toRemove) throws PersonNotFoundException {
-        final boolean personFoundAndDeleted = internalList.remove(toRemove);
-        if (!personFoundAndDeleted) {
+    public Person remove(ReadOnlyPerson toRemove) throws PersonNotFoundException {
+        final PersonIdentity identity = new PersonIdentity(toRemove);
+        final Long sequence = sequenceByIdentity.get(identity);
+        // only the person with the same identity can be equal to the given one
+        final Person removed = sequence == null ? null : personsBySequence.get(sequence);
+        if (removed == null || !removed.equals(toRemove)) {
             throw new PersonNotFoundException();
         }
+        personsBySequence = personsBySequence.remove(sequence);
+        sequenceByIdentity = sequenceByIdentity.remove(identity);
+        if (identities != null) {
+            identities.remove(identity);
+        }
+        return removed;
     }
 
     /**
      * Clears all persons in list.
      */
     public void clear() {
-        internalList.clear();
+        personsBySequence = PersistentSortedMap.empty(Comparator.naturalOrder());
+        sequenceByIdentity = PersistentSortedMap.empty(PersonIdentity.ORDER);
+        identities = new HashSet<>();
     }
 
     @Override
     public Iterator<Person> iterator() {
-        return internalList.iterator();
+        return personsBySequence.valueIterator();
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof UniquePersonList // instanceof handles nulls
-                        && this.internalList.equals(((UniquePersonList) other).internalList));
+                        && this.hasSamePersonsInOrder((UniquePersonList) other));
+    }
+
+    private boolean hasSamePersonsInOrder(UniquePersonList other) {
+        if (this.personsBySequence.size() != other.personsBySequence.size()) {
+            return false;
+        }
+        final Iterator<Person> otherPersons = other.iterator();
+        for (Person person : this) {
+            if (!person.equals(otherPersons.next())) {
+                return false;
+            }
+        }
+        return true;
     }
 }
@@ -4,7 +4,8 @@ import seedu.addressbook.data.exception.IllegalValueException;
 
 /**
  * Represents a Tag in the address book.
- * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
+ * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)};
+ *     tags with the same name have the same id, as assigned by {@link TagDictionary}
  */
 public class Tag {
 
@@ -12,6 +13,7 @@ public class Tag {
     public static final String TAG_VALIDATION_REGEX = "\\p{Alnum}+";
 
     public final String tagName;
+    public final int id;
 
     /**
      * Validates given tag name.
@@ -19,11 +21,17 @@ public class Tag {
      * @throws IllegalValueException if the given tag name string is invalid.
      */
     public Tag(String name) throws IllegalValueException {
-        String trimmedName = name.trim();
-        if (!isValidTagName(trimmedName)) {
-            throw new IllegalValueException(MESSAGE_TAG_CONSTRAINTS);
-        }
-        this.tagName = trimmedName;
+        final Tag interned = TagDictionary.intern(name.trim());
+        this.tagName = interned.tagName;
+        this.id = interned.id;
+    }
+
+    /**
+     * Creates the interned tag for an already validated name.
+     */
+    Tag(String name, int id) {
+        this.tagName = name;
+        this.id = id;
     }
 
     /**
@@ -37,11 +45,12 @@ public class Tag {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Tag // instanceof handles nulls
-                && this.tagName.equals(((Tag) other).tagName)); // state check
+                && this.id == ((Tag) other).id); // state check
     }
 
     @Override
     public int hashCode() {
+        // hashed by name, so that hashed tag collections iterate in the same order whatever ids the tags got
         return tagName.hashCode();
     }
 
@@ -0,0 +1,82 @@
+package seedu.addressbook.data.tag;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import seedu.addressbook.data.exception.IllegalValueException;
+
+/**
+ * Interns every tag name used in the application, giving each distinct name a small integer id.
+ * Ids are assigned in the order names are first seen, starting from 0, and are never reused.
+ *
+ * A tag name is validated only the first time it is seen, and all tags with that name share a single String.
+ * Safe to use from multiple threads.
+ *
+ * Names are never removed, so the ids held by tag sets stay valid for the life of the program. The dictionary
+ * therefore grows with the number of distinct tag names ever given to a person, whether added, imported or loaded,
+ * including persons since deleted. Names that are only looked up, such as search terms, should be looked up with
+ * {@link #find(String)}, which does not add them.
+ */
+public final class TagDictionary {
+
+    private static final Map<String, Tag> tagsByName = new ConcurrentHashMap<>();
+    /**
+     * Index is the tag id. Replaced by a larger copy when full, so readers need no lock.
+     * Written only while holding the lock on {@link #tagsByName}.
+     */
+    private static volatile Tag[] tagsById = new Tag[16];
+    private static int tagCount = 0;
+
+    private TagDictionary() {}
+
+    /**
+     * Returns the interned tag with the given name, interning the name if it was not seen before.
+     *
+     * @throws IllegalValueException if the name is new and is not a valid tag name.
+     */
+    static Tag intern(String name) throws IllegalValueException {
+        final Tag existing = tagsByName.get(name);
+        if (existing != null) {
+            return existing;
+        }
+        if (!Tag.isValidTagName(name)) {
+            throw new IllegalValueException(Tag.MESSAGE_TAG_CONSTRAINTS);
+        }
+        synchronized (tagsByName) {
+            // another thread may have interned the name since the check above
+            final Tag interned = tagsByName.get(name);
+            if (interned != null) {
+                return interned;
+            }
+            final Tag created = new Tag(name, tagCount);
+            final Tag[] tags = tagCount < tagsById.length ? tagsById : Arrays.copyOf(tagsById, tagCount * 2);
+            tags[tagCount++] = created;
+            tagsById = tags; // publishes the new tag before its id can be seen through tagsByName
+            tagsByName.put(name, created);
+            return created;
+        }
+    }
+
+    /**
+     * Returns the interned tag with the given name, or an empty optional if no tag with that name was ever created.
+     * Unlike creating a {@link Tag}, never adds the name to the dictionary.
+     */
+    public static Optional<Tag> find(String name) {
+        return Optional.ofNullable(tagsByName.get(name));
+    }
+
+    /**
+     * Returns the interned tag with the given id.
+     *
+     * @throws IndexOutOfBoundsException if no tag has the given id.
+     */
+    public static Tag getTag(int id) {
+        final Tag tag = tagsById[id];
+        if (tag == null) {
+            throw new IndexOutOfBoundsException("No tag with id: " + id);
+        }
+        return tag;
+    }
+}
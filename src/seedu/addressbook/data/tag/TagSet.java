@@ -0,0 +1,149 @@
+package seedu.addressbook.data.tag;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable set of tags, iterated in the order they were given.
+ * Reading a tag set never copies it, and checking whether it contains a tag takes constant time.
+ *
+ * Membership is stored as a bitset over tag ids, as assigned by {@link TagDictionary}. Since ids are small and
+ * dense, a set of tags from a universe of up to 64 tags takes a single {@code long}.
+ */
+public final class TagSet implements Iterable<Tag> {
+
+    public static final TagSet EMPTY = new TagSet(new int[0]);
+
+    /** Ids of the tags, in iteration order. */
+    private final int[] tagIds;
+    /**
+     * Bit i is set if the tag with id i is in this set.
+     * Has no trailing zero words, so equal sets have equal arrays.
+     */
+    private final long[] membership;
+
+    /**
+     * Constructs a tag set with the tags in the given list, in list order.
+     */
+    public TagSet(UniqueTagList tags) {
+        this(tags.toIdArray());
+    }
+
+    /**
+     * Constructs a tag set with the given tags, in iteration order. Duplicate tags are merged.
+     */
+    public TagSet(Collection<Tag> tags) {
+        this(distinctIds(tags));
+    }
+
+    private static int[] distinctIds(Collection<Tag> tags) {
+        final BitSet seen = new BitSet();
+        final int[] tagIds = new int[tags.size()];
+        int count = 0;
+        for (Tag tag : tags) {
+            if (!seen.get(tag.id)) {
+                seen.set(tag.id);
+                tagIds[count++] = tag.id;
+            }
+        }
+        return Arrays.copyOf(tagIds, count);
+    }
+
+    private TagSet(int[] tagIds) {
+        this.tagIds = tagIds;
+        int maxTagId = -1;
+        for (int tagId : tagIds) {
+            maxTagId = Math.max(maxTagId, tagId);
+        }
+        this.membership = new long[wordIndex(maxTagId) + 1];
+        for (int tagId : tagIds) {
+            membership[wordIndex(tagId)] |= 1L << tagId;
+        }
+    }
+
+    private static int wordIndex(int tagId) {
+        return tagId >> 6;
+    }
+
+    public int size() {
+        return tagIds.length;
+    }
+
+    public boolean isEmpty() {
+        return tagIds.length == 0;
+    }
+
+    /**
+     * Returns true if this set contains an equivalent Tag as the given argument.
+     */
+    public boolean contains(Tag tag) {
+        final int word = wordIndex(tag.id);
+        return word < membership.length && (membership[word] & (1L << tag.id)) != 0;
+    }
+
+    /**
+     * Returns true if this set contains every tag in the other set.
+     * Compares the sets a word of 64 tags at a time.
+     */
+    public boolean containsAll(TagSet other) {
+        if (other.membership.length > this.membership.length) {
+            return false; // the other set has a tag with an id larger than any here
+        }
+        for (int i = 0; i < other.membership.length; i++) {
+            if ((other.membership[i] & ~this.membership[i]) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public Iterator<Tag> iterator() {
+        return new Iterator<Tag>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < tagIds.length;
+            }
+
+            @Override
+            public Tag next() {
+                if (next >= tagIds.length) {
+                    throw new NoSuchElementException();
+                }
+                return TagDictionary.getTag(tagIds[next++]);
+            }
+        };
+    }
+
+    /**
+     * Returns true if the other object is a tag set with the same tags, in any order.
+     * Unlike {@link UniqueTagList#equals(Object)}, order is ignored on purpose: the order of a person's tags is
+     * not part of its data, so persons whose tags differ only in order are equal, and a person given to delete
+     * matches the stored one whatever order its tags were listed in.
+     */
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof TagSet // instanceof handles nulls
+                && Arrays.equals(this.membership, ((TagSet) other).membership));
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(membership);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder();
+        for (Tag tag : this) {
+            builder.append(tag);
+        }
+        return builder.toString();
+    }
+}
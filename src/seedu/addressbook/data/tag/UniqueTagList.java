@@ -2,6 +2,7 @@ package seedu.addressbook.data.tag;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
@@ -9,15 +10,14 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
 
-import seedu.addressbook.common.Utils;
 import seedu.addressbook.data.exception.DuplicateDataException;
 
 
 /**
  * A list of tags. Does not allow nulls or duplicates.
+ * Membership is also kept as a bitset over tag ids, so checks for duplicates take constant time per tag.
  *
  * @see Tag#equals(Object)
- * @see Utils#elementsAreUnique(Collection)
  */
 public class UniqueTagList implements Iterable<Tag> {
 
@@ -31,6 +31,8 @@ public class UniqueTagList implements Iterable<Tag> {
     }
 
     private final List<Tag> internalList = new ArrayList<>();
+    /** Bit i is set if the tag with id i is in {@link #internalList}. */
+    private final BitSet membership = new BitSet();
 
     /**
      * Constructs an empty TagList.
@@ -41,28 +43,40 @@ public class UniqueTagList implements Iterable<Tag> {
      * Constructs a tag list with the given tags.
      */
     public UniqueTagList(Tag... tags) throws DuplicateTagException {
-        final List<Tag> initialTags = Arrays.asList(tags);
-        if (!Utils.elementsAreUnique(initialTags)) {
-            throw new DuplicateTagException();
-        }
-        internalList.addAll(initialTags);
+        this(Arrays.asList(tags));
     }
 
     /**
      * Constructs a tag list with the given tags.
      */
     public UniqueTagList(Collection<Tag> tags) throws DuplicateTagException {
-        if (!Utils.elementsAreUnique(tags)) {
-            throw new DuplicateTagException();
+        for (Tag tag : tags) {
+            if (membership.get(tag.id)) {
+                throw new DuplicateTagException();
+            }
+            add(tag);
         }
-        internalList.addAll(tags);
     }
 
     /**
      * Constructs a tag list with the given tags.
      */
     public UniqueTagList(Set<Tag> tags) {
-        internalList.addAll(tags);
+        for (Tag tag : tags) {
+            add(tag);
+        }
+    }
+
+    /**
+     * Constructs a tag list of the interned tags with the given ids, in the given order.
+     * The ids must be distinct.
+     *
+     * @see TagDictionary#getTag(int)
+     */
+    public UniqueTagList(int[] tagIds) {
+        for (int tagId : tagIds) {
+            add(TagDictionary.getTag(tagId));
+        }
     }
 
     /**
@@ -70,6 +84,15 @@ public class UniqueTagList implements Iterable<Tag> {
      */
     public UniqueTagList(UniqueTagList source) {
         internalList.addAll(source.internalList);
+        membership.or(source.membership);
+    }
+
+    /**
+     * Appends the given tag, which must not already be in this list.
+     */
+    private void add(Tag tag) {
+        internalList.add(tag);
+        membership.set(tag.id);
     }
 
     /**
@@ -80,11 +103,22 @@ public class UniqueTagList implements Iterable<Tag> {
         return new HashSet<>(internalList);
     }
 
+    /**
+     * Returns the ids of the tags in this list, in list order.
+     */
+    public int[] toIdArray() {
+        final int[] tagIds = new int[internalList.size()];
+        for (int i = 0; i < tagIds.length; i++) {
+            tagIds[i] = internalList.get(i).id;
+        }
+        return tagIds;
+    }
+
     /**
      * Returns true if the list contains an equivalent Tag as the given argument.
      */
     public boolean contains(Tag toCheck) {
-        return internalList.contains(toCheck);
+        return membership.get(toCheck.id);
     }
 
     /**
@@ -93,20 +127,21 @@ public class UniqueTagList implements Iterable<Tag> {
      * @throws DuplicateTagException if the argument tag list contains tag(s) that already exist in this list.
      */
     public void addAll(UniqueTagList tags) throws DuplicateTagException {
-        if (!Collections.disjoint(this.internalList, tags.internalList)) {
+        if (this.membership.intersects(tags.membership)) {
             throw new DuplicateTagException();
         }
         this.internalList.addAll(tags.internalList);
+        this.membership.or(tags.membership);
     }
 
     /**
-     * Adds every tag from the argument list that does not yet exist in this list.
+     * Adds every given tag that does not yet exist in this list, in the given order.
+     * Takes time proportional to the number of given tags only.
      */
-    public void mergeFrom(UniqueTagList tags) {
-        final Set<Tag> alreadyInside = this.toSet();
+    public void mergeFrom(Iterable<Tag> tags) {
         for (Tag tag : tags) {
-            if (!alreadyInside.contains(tag)) {
-                internalList.add(tag);
+            if (!membership.get(tag.id)) {
+                add(tag);
             }
         }
     }
@@ -116,6 +151,7 @@ public class UniqueTagList implements Iterable<Tag> {
      */
     public void clear() {
         internalList.clear();
+        membership.clear();
     }
 
     /**
@@ -124,11 +160,13 @@ public class UniqueTagList implements Iterable<Tag> {
     public void setTags(UniqueTagList replacement) {
         this.internalList.clear();
         this.internalList.addAll(replacement.internalList);
+        this.membership.clear();
+        this.membership.or(replacement.membership);
     }
 
     @Override
     public Iterator<Tag> iterator() {
-        return internalList.iterator();
+        return Collections.unmodifiableList(internalList).iterator(); // removals would bypass the bitset
     }
 
     @Override
@@ -12,17 +12,27 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import seedu.addressbook.commands.AddCommand;
+import seedu.addressbook.commands.AutocompleteCommand;
 import seedu.addressbook.commands.ClearCommand;
 import seedu.addressbook.commands.Command;
 import seedu.addressbook.commands.DeleteCommand;
 import seedu.addressbook.commands.ExitCommand;
+import seedu.addressbook.commands.ExportCommand;
 import seedu.addressbook.commands.FindCommand;
+import seedu.addressbook.commands.FindDomainCommand;
+import seedu.addressbook.commands.FindPhoneCommand;
+import seedu.addressbook.commands.FindTagCommand;
+import seedu.addressbook.commands.FuzzyFindCommand;
 import seedu.addressbook.commands.HelpCommand;
+import seedu.addressbook.commands.ImportCommand;
 import seedu.addressbook.commands.IncorrectCommand;
 import seedu.addressbook.commands.ListCommand;
+import seedu.addressbook.commands.ListDomainsCommand;
 import seedu.addressbook.commands.ViewAllCommand;
 import seedu.addressbook.commands.ViewCommand;
 import seedu.addressbook.data.exception.IllegalValueException;
+import seedu.addressbook.storage.CsvPersonFormat;
+import seedu.addressbook.storage.JsonLinesPersonFormat;
 
 /**
  * Parses user input.
@@ -34,6 +44,28 @@ public class Parser {
     public static final Pattern KEYWORDS_ARGS_FORMAT =
             Pattern.compile("(?<keywords>\\S+(?:\\s+\\S+)*)"); // one or more keywords separated by whitespace
 
+    public static final Pattern FIND_ARGS_FORMAT = // optional i/ prefix, then one or more keywords
+            Pattern.compile("(?<isCaseAndAccentIgnored>(?:i/(?:\\s+|$))?+)(?<keywords>\\S+(?:\\s+\\S+)*)");
+
+    public static final Pattern FIND_PHONE_ARGS_FORMAT = // optional prefix/ prefix, then digits and separators
+            Pattern.compile("(?<isPrefix>(?:prefix/(?:\\s+|$))?+)(?<number>\\+?[\\d\\s()-]*\\d[\\d\\s()-]*)");
+
+    public static final Pattern FIND_DOMAIN_ARGS_FORMAT = // one or more domains separated by whitespace
+            Pattern.compile("(?<domains>[\\w.]+(?:\\s+[\\w.]+)*)");
+
+    public static final Pattern IMPORT_ARGS_FORMAT = // path of a CSV file
+            Pattern.compile("(?<filePath>.+\\" + CsvPersonFormat.FILE_EXTENSION + ")");
+
+    public static final Pattern EXPORT_ARGS_FORMAT = // path of a CSV or JSON Lines file
+            Pattern.compile("(?<filePath>.+(?:\\" + CsvPersonFormat.FILE_EXTENSION
+                    + "|\\" + JsonLinesPersonFormat.FILE_EXTENSION + "))");
+
+    public static final Pattern FIND_TAG_ARGS_FORMAT = // optional all/ prefix, then one or more tags
+            Pattern.compile("(?<isAllTagsRequired>(?:all/)?)\\s*(?<tags>[^/\\s]+(?:\\s+[^/\\s]+)*)");
+
+    public static final Pattern AUTOCOMPLETE_ARGS_FORMAT = // a prefix, then an optional positive limit
+            Pattern.compile("(?<prefix>[^/\\s]+)(?:\\s+(?<limit>[1-9]\\d{0,8}))?");
+
     public static final Pattern PERSON_DATA_ARGS_FORMAT = // '/' forward slashes are reserved for delimiter prefixes
             Pattern.compile("(?<name>[^/]+)"
                     + " (?<isPhonePrivate>p?)p/(?<phone>[^/]+)"
@@ -87,9 +119,33 @@ public class Parser {
         case FindCommand.COMMAND_WORD:
             return prepareFind(arguments);
 
+        case FindTagCommand.COMMAND_WORD:
+            return prepareFindTag(arguments);
+
+        case FindPhoneCommand.COMMAND_WORD:
+            return prepareFindPhone(arguments);
+
+        case FindDomainCommand.COMMAND_WORD:
+            return prepareFindDomain(arguments);
+
+        case FuzzyFindCommand.COMMAND_WORD:
+            return prepareFuzzyFind(arguments);
+
+        case AutocompleteCommand.COMMAND_WORD:
+            return prepareAutocomplete(arguments);
+
+        case ImportCommand.COMMAND_WORD:
+            return prepareImport(arguments);
+
+        case ExportCommand.COMMAND_WORD:
+            return prepareExport(arguments);
+
         case ListCommand.COMMAND_WORD:
             return new ListCommand();
 
+        case ListDomainsCommand.COMMAND_WORD:
+            return new ListDomainsCommand();
+
         case ViewCommand.COMMAND_WORD:
             return prepareView(arguments);
 
@@ -176,6 +232,34 @@ public class Parser {
         }
     }
 
+    /**
+     * Parses arguments in the context of the import command.
+     *
+     * @param args full command args string
+     * @return the prepared command
+     */
+    private Command prepareImport(String args) {
+        final Matcher matcher = IMPORT_ARGS_FORMAT.matcher(args.trim());
+        if (!matcher.matches()) {
+            return new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
+        }
+        return new ImportCommand(matcher.group("filePath"));
+    }
+
+    /**
+     * Parses arguments in the context of the export command.
+     *
+     * @param args full command args string
+     * @return the prepared command
+     */
+    private Command prepareExport(String args) {
+        final Matcher matcher = EXPORT_ARGS_FORMAT.matcher(args.trim());
+        if (!matcher.matches()) {
+            return new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+        }
+        return new ExportCommand(matcher.group("filePath"));
+    }
+
     /**
      * Parses arguments in the context of the view command.
      *
@@ -238,7 +322,7 @@ public class Parser {
      * @return the prepared command
      */
     private Command prepareFind(String args) {
-        final Matcher matcher = KEYWORDS_ARGS_FORMAT.matcher(args.trim());
+        final Matcher matcher = FIND_ARGS_FORMAT.matcher(args.trim());
         if (!matcher.matches()) {
             return new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
                     FindCommand.MESSAGE_USAGE));
@@ -247,7 +331,103 @@ public class Parser {
         // keywords delimited by whitespace
         final String[] keywords = matcher.group("keywords").split("\\s+");
         final Set<String> keywordSet = new HashSet<>(Arrays.asList(keywords));
-        return new FindCommand(keywordSet);
+        return new FindCommand(keywordSet, !matcher.group("isCaseAndAccentIgnored").isEmpty());
+    }
+
+    /**
+     * Parses arguments in the context of the fuzzy find person command.
+     *
+     * @param args full command args string
+     * @return the prepared command
+     */
+    private Command prepareFuzzyFind(String args) {
+        final Matcher matcher = KEYWORDS_ARGS_FORMAT.matcher(args.trim());
+        if (!matcher.matches()) {
+            return new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    FuzzyFindCommand.MESSAGE_USAGE));
+        }
+
+        // keywords delimited by whitespace
+        final String[] keywords = matcher.group("keywords").split("\\s+");
+        final Set<String> keywordSet = new HashSet<>(Arrays.asList(keywords));
+        return new FuzzyFindCommand(keywordSet);
+    }
+
+    /**
+     * Parses arguments in the context of the find by phone number command.
+     *
+     * @param args full command args string
+     * @return the prepared command
+     */
+    private Command prepareFindPhone(String args) {
+        final Matcher matcher = FIND_PHONE_ARGS_FORMAT.matcher(args.trim());
+        if (!matcher.matches()) {
+            return new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    FindPhoneCommand.MESSAGE_USAGE));
+        }
+
+        // phone numbers are stored as digits only
+        final String digits = matcher.group("number").replaceAll("\\D", "");
+        return new FindPhoneCommand(digits, !matcher.group("isPrefix").isEmpty());
+    }
+
+    /**
+     * Parses arguments in the context of the find by email domain command.
+     *
+     * @param args full command args string
+     * @return the prepared command
+     */
+    private Command prepareFindDomain(String args) {
+        final Matcher matcher = FIND_DOMAIN_ARGS_FORMAT.matcher(args.trim());
+        if (!matcher.matches()) {
+            return new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    FindDomainCommand.MESSAGE_USAGE));
+        }
+
+        // domains delimited by whitespace
+        final String[] domains = matcher.group("domains").split("\\s+");
+        return new FindDomainCommand(new HashSet<>(Arrays.asList(domains)));
+    }
+
+    /**
+     * Parses arguments in the context of the find by tag command.
+     *
+     * @param args full command args string
+     * @return the prepared command
+     */
+    private Command prepareFindTag(String args) {
+        final Matcher matcher = FIND_TAG_ARGS_FORMAT.matcher(args.trim());
+        if (!matcher.matches()) {
+            return new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    FindTagCommand.MESSAGE_USAGE));
+        }
+
+        // tags delimited by whitespace
+        final String[] tags = matcher.group("tags").split("\\s+");
+        final Set<String> tagSet = new HashSet<>(Arrays.asList(tags));
+        try {
+            return new FindTagCommand(tagSet, !matcher.group("isAllTagsRequired").isEmpty());
+        } catch (IllegalValueException ive) {
+            return new IncorrectCommand(ive.getMessage());
+        }
+    }
+
+    /**
+     * Parses arguments in the context of the autocomplete command.
+     *
+     * @param args full command args string
+     * @return the prepared command
+     */
+    private Command prepareAutocomplete(String args) {
+        final Matcher matcher = AUTOCOMPLETE_ARGS_FORMAT.matcher(args.trim());
+        if (!matcher.matches()) {
+            return new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    AutocompleteCommand.MESSAGE_USAGE));
+        }
+
+        final String limit = matcher.group("limit");
+        return new AutocompleteCommand(matcher.group("prefix"),
+                limit == null ? AutocompleteCommand.DEFAULT_LIMIT : Integer.parseInt(limit));
     }
 
 
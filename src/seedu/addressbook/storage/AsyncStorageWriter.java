@@ -0,0 +1,196 @@
+package seedu.addressbook.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.storage.StorageFile.StorageOperationException;
+
+/**
+ * Saves an address book to a {@link StorageFile} on a background thread, so that the caller does not wait for
+ * the disk. What to write is captured on the calling thread at each save, and consecutive saves are combined
+ * into as few writes as possible.
+ *
+ * Writes are performed once the oldest unwritten save is {@code maxDelayMillis} old, or once
+ * {@code maxPendingSaves} saves are waiting, whichever comes first.
+ * Errors from the background thread are rethrown by the next call to {@link #save}, {@link #flush} or
+ * {@link #close}.
+ */
+public class AsyncStorageWriter {
+
+    public static final long DEFAULT_MAX_DELAY_MILLIS = 1000;
+    public static final int DEFAULT_MAX_PENDING_SAVES = 100;
+
+    private final StorageFile storage;
+    private final long maxDelayMillis;
+    private final int maxPendingSaves;
+
+    /* All fields below are guarded by this object's lock. */
+    private final List<PendingWrite> pendingWrites = new ArrayList<>();
+    private int pendingSaveCount = 0;
+    private long oldestPendingSaveTime;
+    private boolean isWriting = false;
+    private boolean isFlushRequested = false;
+    private boolean isClosed = false;
+    private StorageOperationException failure;
+
+    public AsyncStorageWriter(StorageFile storage) {
+        this(storage, DEFAULT_MAX_DELAY_MILLIS, DEFAULT_MAX_PENDING_SAVES);
+    }
+
+    /**
+     * @param maxDelayMillis longest time a save may wait before being written
+     * @param maxPendingSaves number of waiting saves that causes them to be written immediately
+     */
+    public AsyncStorageWriter(StorageFile storage, long maxDelayMillis, int maxPendingSaves) {
+        this.storage = storage;
+        this.maxDelayMillis = maxDelayMillis;
+        this.maxPendingSaves = maxPendingSaves;
+        final Thread writerThread = new Thread(this::runWriteLoop, "storage-writer");
+        writerThread.setDaemon(true); // must not keep the program alive; pending saves are flushed on exit instead
+        writerThread.start();
+    }
+
+    /**
+     * Captures the changes to the address book since the last save, to be written in the background.
+     * Must be called from the thread that changes the address book.
+     *
+     * @throws StorageOperationException if an earlier background write failed.
+     */
+    public void save(AddressBook addressBook) throws StorageOperationException {
+        final PendingWrite write = storage.prepareSave(addressBook);
+        synchronized (this) {
+            throwIfFailed();
+            if (isClosed) {
+                throw new IllegalStateException("Writer is already closed");
+            }
+            enqueue(write);
+            if (pendingSaveCount == 0) {
+                oldestPendingSaveTime = System.currentTimeMillis();
+            }
+            pendingSaveCount++;
+            notifyAll();
+        }
+    }
+
+    /**
+     * Adds the write to the end of the queue, combining it with the writes already queued where possible.
+     */
+    private void enqueue(PendingWrite write) {
+        PendingWrite toQueue = write;
+        while (!pendingWrites.isEmpty()) {
+            final PendingWrite combined = pendingWrites.get(pendingWrites.size() - 1).combineWith(toQueue);
+            if (combined == null) {
+                break;
+            }
+            pendingWrites.remove(pendingWrites.size() - 1);
+            toQueue = combined;
+        }
+        pendingWrites.add(toQueue);
+    }
+
+    /**
+     * Blocks until every save made so far has been written.
+     *
+     * @throws StorageOperationException if a background write failed.
+     */
+    public synchronized void flush() throws StorageOperationException {
+        isFlushRequested = true;
+        notifyAll();
+        try {
+            while (failure == null && (!pendingWrites.isEmpty() || isWriting)) {
+                wait();
+            }
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        } finally {
+            isFlushRequested = false;
+        }
+        throwIfFailed();
+    }
+
+    /**
+     * Writes every save made so far, then stops the background thread.
+     *
+     * @throws StorageOperationException if a background write failed.
+     */
+    public void close() throws StorageOperationException {
+        try {
+            flush();
+        } finally {
+            synchronized (this) {
+                isClosed = true;
+                notifyAll();
+            }
+        }
+    }
+
+    private void throwIfFailed() throws StorageOperationException {
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private void runWriteLoop() {
+        try {
+            while (true) {
+                final List<PendingWrite> batch = takeBatchWhenDue();
+                if (batch == null) {
+                    return;
+                }
+                writeAll(batch);
+            }
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Waits until the queued writes are due, then removes and returns them.
+     * Returns null if the writer has been closed.
+     */
+    private synchronized List<PendingWrite> takeBatchWhenDue() throws InterruptedException {
+        while (!isClosed && !isBatchDue()) {
+            if (pendingWrites.isEmpty()) {
+                wait();
+            } else {
+                wait(Math.max(1, oldestPendingSaveTime + maxDelayMillis - System.currentTimeMillis()));
+            }
+        }
+        if (isClosed) {
+            return null;
+        }
+        final List<PendingWrite> batch = new ArrayList<>(pendingWrites);
+        pendingWrites.clear();
+        pendingSaveCount = 0;
+        isWriting = true;
+        return batch;
+    }
+
+    private boolean isBatchDue() {
+        return !pendingWrites.isEmpty()
+                && (isFlushRequested
+                    || pendingSaveCount >= maxPendingSaves
+                    || System.currentTimeMillis() >= oldestPendingSaveTime + maxDelayMillis);
+    }
+
+    private void writeAll(List<PendingWrite> batch) {
+        StorageOperationException writeFailure = null;
+        try {
+            for (PendingWrite write : batch) {
+                write.write();
+            }
+        } catch (StorageOperationException soe) {
+            writeFailure = soe;
+        } catch (RuntimeException re) {
+            writeFailure = new StorageOperationException("Unexpected error while saving: " + re.getMessage());
+        }
+        synchronized (this) {
+            if (writeFailure != null && failure == null) {
+                failure = writeFailure;
+            }
+            isWriting = false;
+            notifyAll();
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package seedu.addressbook.storage;
+
+import static seedu.addressbook.storage.BinaryStrings.readLength;
+import static seedu.addressbook.storage.BinaryStrings.readString;
+import static seedu.addressbook.storage.BinaryStrings.writeString;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.exception.IllegalValueException;
+import seedu.addressbook.data.person.Address;
+import seedu.addressbook.data.person.Email;
+import seedu.addressbook.data.person.Name;
+import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.Phone;
+import seedu.addressbook.data.person.ReadOnlyPerson;
+import seedu.addressbook.data.person.UniquePersonList;
+import seedu.addressbook.data.tag.Tag;
+import seedu.addressbook.data.tag.TagSet;
+import seedu.addressbook.data.tag.UniqueTagList;
+import seedu.addressbook.storage.StorageFile.StorageOperationException;
+
+/**
+ * Compact binary snapshot format. Much smaller and faster to read and write than XML.
+ *
+ * Layout (all integers are big-endian, strings are length-prefixed UTF-8):
+ *  - header: magic number, format version, generation. Version 1 files have no generation, and are read as
+ *    {@link #UNSTAMPED_GENERATION}.
+ *  - tag dictionary: tag count, then each tag name. A tag's id is its position in the dictionary.
+ *  - persons: person count, then for each person its name, phone, email and address,
+ *    a byte of privacy flags, the number of tags and the id of each tag.
+ */
+public class BinarySnapshotFormat implements SnapshotFormat {
+
+    public static final String FILE_EXTENSION = ".abk";
+
+    /** "ABK" followed by a zero byte. */
+    private static final int MAGIC_NUMBER = 0x41424B00;
+    private static final int FORMAT_VERSION = 2;
+    private static final int UNSTAMPED_FORMAT_VERSION = 1;
+
+    private static final int PRIVATE_PHONE_FLAG = 1;
+    private static final int PRIVATE_EMAIL_FLAG = 1 << 1;
+    private static final int PRIVATE_ADDRESS_FLAG = 1 << 2;
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    @Override
+    public void write(Path path, long generation, Iterable<? extends ReadOnlyPerson> persons, Iterable<Tag> tags)
+            throws StorageOperationException {
+        final Map<Tag, Integer> tagIds = buildTagDictionary(persons, tags);
+        try (final DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(path), BUFFER_SIZE))) {
+            out.writeInt(MAGIC_NUMBER);
+            out.writeInt(FORMAT_VERSION);
+            out.writeLong(generation);
+
+            out.writeInt(tagIds.size());
+            for (Tag tag : tagIds.keySet()) {
+                writeString(out, tag.tagName);
+            }
+
+            int personCount = 0;
+            for (ReadOnlyPerson person : persons) {
+                personCount++;
+            }
+            out.writeInt(personCount);
+            for (ReadOnlyPerson person : persons) {
+                writePerson(out, person, tagIds);
+            }
+        } catch (IOException ioe) {
+            throw new StorageOperationException("Error writing to file: " + path);
+        }
+    }
+
+    /**
+     * Assigns an id to every tag in the master tag list, then to any tag found only in a person.
+     * The returned map iterates in id order.
+     */
+    private static Map<Tag, Integer> buildTagDictionary(Iterable<? extends ReadOnlyPerson> persons,
+                                                       Iterable<Tag> tags) {
+        final Map<Tag, Integer> tagIds = new LinkedHashMap<>();
+        for (Tag tag : tags) {
+            tagIds.putIfAbsent(tag, tagIds.size());
+        }
+        for (ReadOnlyPerson person : persons) {
+            for (Tag tag : person.getTags()) {
+                tagIds.putIfAbsent(tag, tagIds.size());
+            }
+        }
+        return tagIds;
+    }
+
+    private static void writePerson(DataOutputStream out, ReadOnlyPerson person, Map<Tag, Integer> tagIds)
+            throws IOException {
+        writeString(out, person.getName().fullName);
+        writeString(out, person.getPhone().value);
+        writeString(out, person.getEmail().value);
+        writeString(out, person.getAddress().value);
+
+        int privacyFlags = 0;
+        if (person.getPhone().isPrivate()) {
+            privacyFlags |= PRIVATE_PHONE_FLAG;
+        }
+        if (person.getEmail().isPrivate()) {
+            privacyFlags |= PRIVATE_EMAIL_FLAG;
+        }
+        if (person.getAddress().isPrivate()) {
+            privacyFlags |= PRIVATE_ADDRESS_FLAG;
+        }
+        out.writeByte(privacyFlags);
+
+        final TagSet tags = person.getTags();
+        out.writeInt(tags.size());
+        for (Tag tag : tags) {
+            out.writeInt(tagIds.get(tag));
+        }
+    }
+
+    @Override
+    public Snapshot read(Path path) throws StorageOperationException {
+        try (final DataInputStream in = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(path), BUFFER_SIZE))) {
+            if (in.readInt() != MAGIC_NUMBER) {
+                throw new StorageOperationException("Error parsing file data format");
+            }
+            final int version = in.readInt();
+            if (version != FORMAT_VERSION && version != UNSTAMPED_FORMAT_VERSION) {
+                throw new StorageOperationException("Unsupported storage file version: " + version);
+            }
+            final long generation = version == FORMAT_VERSION ? in.readLong() : UNSTAMPED_GENERATION;
+
+            // each distinct tag is validated once, and every person shares the same Tag objects
+            final Tag[] tagDictionary = new Tag[readLength(in)];
+            for (int i = 0; i < tagDictionary.length; i++) {
+                tagDictionary[i] = new Tag(readString(in));
+            }
+
+            final int personCount = readLength(in);
+            final List<RawPerson> rawPersons = new ArrayList<>(Math.min(personCount, BUFFER_SIZE));
+            for (int i = 0; i < personCount; i++) {
+                rawPersons.add(readPerson(in, tagDictionary));
+            }
+            final List<Person> persons = ParallelRecordConverter.convertAll(rawPersons, RawPerson::toModelType);
+            return new Snapshot(new AddressBook(new UniquePersonList(persons), new UniqueTagList(tagDictionary)),
+                    generation);
+
+        } catch (EOFException | IndexOutOfBoundsException e) {
+            throw new StorageOperationException("Error parsing file data format");
+        } catch (IOException ioe) {
+            throw new StorageOperationException("Error reading from file: " + path);
+        } catch (IllegalValueException ive) {
+            throw new StorageOperationException("File contains illegal data values; data type constraints not met");
+        }
+    }
+
+    private static RawPerson readPerson(DataInputStream in, Tag[] tagDictionary) throws IOException {
+        final RawPerson person = new RawPerson();
+        person.name = readString(in);
+        person.phone = readString(in);
+        person.email = readString(in);
+        person.address = readString(in);
+        person.privacyFlags = in.readUnsignedByte();
+
+        final int tagCount = readLength(in);
+        for (int i = 0; i < tagCount; i++) {
+            person.tags.add(tagDictionary[in.readInt()]);
+        }
+        return person;
+    }
+
+    /**
+     * Data of a person as read from the file, not yet validated.
+     */
+    private static class RawPerson {
+        private String name;
+        private String phone;
+        private String email;
+        private String address;
+        private int privacyFlags;
+        private final List<Tag> tags = new ArrayList<>();
+
+        private Person toModelType() throws IllegalValueException {
+            return new Person(
+                    new Name(name),
+                    new Phone(phone, (privacyFlags & PRIVATE_PHONE_FLAG) != 0),
+                    new Email(email, (privacyFlags & PRIVATE_EMAIL_FLAG) != 0),
+                    new Address(address, (privacyFlags & PRIVATE_ADDRESS_FLAG) != 0),
+                    new UniqueTagList(tags));
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package seedu.addressbook.storage;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Helpers for the length-prefixed strings used by the binary storage files.
+ * Unlike {@link DataOutput#writeUTF(String)}, these have no 64KB limit.
+ */
+class BinaryStrings {
+
+    private BinaryStrings() {}
+
+    /**
+     * Writes the string as UTF-8 bytes prefixed with their length.
+     */
+    static void writeString(DataOutput out, String value) throws IOException {
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Reads a string written by {@link #writeString(DataOutput, String)}.
+     */
+    static String readString(DataInput in) throws IOException {
+        final byte[] bytes = new byte[readLength(in)];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads a length or count, which must not be negative.
+     */
+    static int readLength(DataInput in) throws IOException {
+        final int length = in.readInt();
+        if (length < 0) {
+            throw new IOException("Negative length: " + length);
+        }
+        return length;
+    }
+}
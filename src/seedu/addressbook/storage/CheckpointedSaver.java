@@ -0,0 +1,66 @@
+package seedu.addressbook.storage;
+
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.storage.StorageFile.StorageOperationException;
+
+/**
+ * Saves an address book through an {@link AsyncStorageWriter} once a given number of changes have been made to it
+ * since it was last saved, rather than after every command that changes it.
+ * A command that adds many persons, such as an import, counts as one change per person.
+ */
+public class CheckpointedSaver {
+
+    /** Checkpoint interval meaning changes are only saved by {@link #saveUnsavedChanges}. */
+    public static final int NO_CHECKPOINTS = 0;
+
+    private final AsyncStorageWriter storageWriter;
+    private final int checkpointInterval;
+    private long unsavedChangeCount = 0;
+    private int saveCount = 0;
+
+    /**
+     * @param checkpointInterval number of changes after which the address book is saved,
+     *    or {@link #NO_CHECKPOINTS}
+     */
+    public CheckpointedSaver(AsyncStorageWriter storageWriter, int checkpointInterval) {
+        this.storageWriter = storageWriter;
+        this.checkpointInterval = checkpointInterval;
+    }
+
+    /**
+     * Records that the given number of changes were made to the address book, and saves it if that brings the
+     * changes since it was last saved to the checkpoint interval.
+     *
+     * @throws StorageOperationException if an earlier background write failed.
+     */
+    public void recordChanges(AddressBook addressBook, long changeCount) throws StorageOperationException {
+        unsavedChangeCount += changeCount;
+        if (checkpointInterval != NO_CHECKPOINTS && unsavedChangeCount >= checkpointInterval) {
+            save(addressBook);
+        }
+    }
+
+    /**
+     * Saves the address book if any recorded change has not been saved yet.
+     *
+     * @throws StorageOperationException if an earlier background write failed.
+     */
+    public void saveUnsavedChanges(AddressBook addressBook) throws StorageOperationException {
+        if (unsavedChangeCount > 0) {
+            save(addressBook);
+        }
+    }
+
+    private void save(AddressBook addressBook) throws StorageOperationException {
+        storageWriter.save(addressBook);
+        unsavedChangeCount = 0;
+        saveCount++;
+    }
+
+    /**
+     * Returns the number of times the address book has been saved.
+     */
+    public int getSaveCount() {
+        return saveCount;
+    }
+}
@@ -0,0 +1,170 @@
+package seedu.addressbook.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.addressbook.data.exception.IllegalValueException;
+import seedu.addressbook.data.person.Address;
+import seedu.addressbook.data.person.Email;
+import seedu.addressbook.data.person.Name;
+import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.Phone;
+import seedu.addressbook.data.person.ReadOnlyPerson;
+import seedu.addressbook.data.tag.Tag;
+import seedu.addressbook.data.tag.UniqueTagList;
+
+/**
+ * Converts persons to and from rows of comma-separated values, one person per line.
+ *
+ * Each row has the columns named in {@link #HEADER}. Fields containing commas or double quotes are enclosed in
+ * double quotes, with double quotes inside doubled. Privacy columns hold {@code true} or {@code false}, and an
+ * empty privacy field means {@code false}. Tags are separated by spaces.
+ */
+public final class CsvPersonFormat {
+
+    public static final String FILE_EXTENSION = ".csv";
+
+    public static final String HEADER =
+            "name,phone,phone_private,email,email_private,address,address_private,tags";
+
+    public static final String MESSAGE_WRONG_FIELD_COUNT = "Rows should have %1$d fields but this one has %2$d";
+    public static final String MESSAGE_UNCLOSED_QUOTE = "Quoted field is not closed";
+    public static final String MESSAGE_TEXT_AFTER_QUOTE = "Quoted field is followed by text other than a comma";
+    public static final String MESSAGE_INVALID_PRIVACY_FLAG = "Privacy fields should be 'true', 'false' or empty";
+
+    private static final int FIELD_COUNT = 8;
+
+    private CsvPersonFormat() {}
+
+    /**
+     * Returns true if the given line is the header row.
+     */
+    public static boolean isHeader(String line) {
+        return line.trim().equalsIgnoreCase(HEADER);
+    }
+
+    /**
+     * Returns the person described by the given row, validating every field.
+     *
+     * @throws IllegalValueException if the row is malformed or any field violates data constraints.
+     */
+    public static Person parsePerson(String line) throws IllegalValueException {
+        final List<String> fields = splitFields(line);
+        if (fields.size() != FIELD_COUNT) {
+            throw new IllegalValueException(String.format(MESSAGE_WRONG_FIELD_COUNT, FIELD_COUNT, fields.size()));
+        }
+        final Name name = new Name(fields.get(0));
+        final Phone phone = new Phone(fields.get(1), parsePrivacyFlag(fields.get(2)));
+        final Email email = new Email(fields.get(3), parsePrivacyFlag(fields.get(4)));
+        final Address address = new Address(fields.get(5), parsePrivacyFlag(fields.get(6)));
+
+        // tags are created last and only once all are valid, since creating a tag interns its name for good
+        final List<String> tagNames = new ArrayList<>();
+        for (String tagName : fields.get(7).trim().split("\\s+")) {
+            if (tagName.isEmpty()) {
+                continue;
+            }
+            if (!Tag.isValidTagName(tagName)) {
+                throw new IllegalValueException(Tag.MESSAGE_TAG_CONSTRAINTS);
+            }
+            tagNames.add(tagName);
+        }
+        final List<Tag> tags = new ArrayList<>();
+        for (String tagName : tagNames) {
+            tags.add(new Tag(tagName));
+        }
+        return new Person(name, phone, email, address, new UniqueTagList(tags));
+    }
+
+    /**
+     * Appends the row describing the given person to {@code row}, without a line separator.
+     */
+    public static void appendPerson(StringBuilder row, ReadOnlyPerson person) {
+        appendField(row, person.getName().fullName).append(',');
+        appendField(row, person.getPhone().value).append(',').append(person.getPhone().isPrivate()).append(',');
+        appendField(row, person.getEmail().value).append(',').append(person.getEmail().isPrivate()).append(',');
+        appendField(row, person.getAddress().value).append(',').append(person.getAddress().isPrivate()).append(',');
+        boolean isFirstTag = true;
+        for (Tag tag : person.getTags()) {
+            if (!isFirstTag) {
+                row.append(' ');
+            }
+            row.append(tag.tagName); // tag names are alphanumeric, so never need quoting
+            isFirstTag = false;
+        }
+    }
+
+    /**
+     * Appends the given field, enclosed in double quotes if it contains a comma or double quote.
+     */
+    private static StringBuilder appendField(StringBuilder row, String field) {
+        if (field.indexOf(',') < 0 && field.indexOf('"') < 0) {
+            return row.append(field);
+        }
+        return row.append('"').append(field.replace("\"", "\"\"")).append('"');
+    }
+
+    private static boolean parsePrivacyFlag(String field) throws IllegalValueException {
+        final String flag = field.trim();
+        if (flag.isEmpty() || flag.equalsIgnoreCase("false")) {
+            return false;
+        }
+        if (flag.equalsIgnoreCase("true")) {
+            return true;
+        }
+        throw new IllegalValueException(MESSAGE_INVALID_PRIVACY_FLAG);
+    }
+
+    /**
+     * Returns the fields of the given row, with quotes removed from quoted fields.
+     *
+     * @throws IllegalValueException if a quoted field is not closed, or is followed by anything but a comma.
+     */
+    static List<String> splitFields(String line) throws IllegalValueException {
+        final List<String> fields = new ArrayList<>();
+        int fieldStart = 0;
+        while (true) {
+            final int fieldEnd;
+            if (fieldStart < line.length() && line.charAt(fieldStart) == '"') {
+                final StringBuilder field = new StringBuilder();
+                fieldEnd = readQuotedField(line, fieldStart + 1, field);
+                if (fieldEnd < line.length() && line.charAt(fieldEnd) != ',') {
+                    throw new IllegalValueException(MESSAGE_TEXT_AFTER_QUOTE);
+                }
+                fields.add(field.toString());
+            } else {
+                final int comma = line.indexOf(',', fieldStart);
+                fieldEnd = comma < 0 ? line.length() : comma;
+                fields.add(line.substring(fieldStart, fieldEnd));
+            }
+            if (fieldEnd >= line.length()) {
+                return fields;
+            }
+            fieldStart = fieldEnd + 1; // skip the comma
+        }
+    }
+
+    /**
+     * Appends the content of the quoted field starting at the given index, just after its opening quote, to
+     * {@code field}, and returns the index just after its closing quote.
+     *
+     * @throws IllegalValueException if the field is not closed.
+     */
+    private static int readQuotedField(String line, int contentStart, StringBuilder field)
+            throws IllegalValueException {
+        int i = contentStart;
+        while (true) {
+            final int quote = line.indexOf('"', i);
+            if (quote < 0) {
+                throw new IllegalValueException(MESSAGE_UNCLOSED_QUOTE);
+            }
+            field.append(line, i, quote);
+            if (quote + 1 < line.length() && line.charAt(quote + 1) == '"') {
+                field.append('"'); // a doubled quote stands for one quote in the field
+                i = quote + 2;
+            } else {
+                return quote + 1;
+            }
+        }
+    }
+}
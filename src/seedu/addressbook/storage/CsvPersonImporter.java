@@ -0,0 +1,210 @@
+package seedu.addressbook.storage;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.exception.IllegalValueException;
+import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.UniquePersonList.DuplicatePersonException;
+import seedu.addressbook.storage.StorageFile.StorageOperationException;
+
+/**
+ * Adds the persons in a file of comma-separated values to an address book, in the format of
+ * {@link CsvPersonFormat}.
+ *
+ * The file is streamed through three stages: lines are read in batches on the calling thread, each batch is
+ * parsed and validated on the common fork-join pool, and the persons of each batch are added to the address book
+ * on the calling thread, in file order. A bounded number of batches are in flight at a time, so memory use does
+ * not grow with the size of the file.
+ */
+public final class CsvPersonImporter {
+
+    /** Number of lines parsed together as one task. */
+    static final int BATCH_SIZE = 4096;
+
+    /** Number of batches read ahead of the batch being added to the address book. */
+    private static final int MAX_BATCHES_IN_FLIGHT = 2 * ForkJoinPool.getCommonPoolParallelism() + 1;
+
+    public static final String MESSAGE_DUPLICATE_PERSON = "This person already exists in the address book";
+    public static final String MESSAGE_READ_ERROR = "Error reading from file: %1$s after line %2$d";
+
+    /**
+     * Signals that the file could not be read to its end. The rows read before the error were still imported.
+     */
+    public static class PartialImportException extends StorageOperationException {
+        /** The persons added and rows rejected before the error. */
+        public final Result partialResult;
+
+        PartialImportException(String message, Result partialResult) {
+            super(message);
+            this.partialResult = partialResult;
+        }
+    }
+
+    /**
+     * A row of the file that was not added to the address book, and why.
+     */
+    public static class RejectedRow {
+        public final long lineNumber;
+        public final String reason;
+
+        RejectedRow(long lineNumber, String reason) {
+            this.lineNumber = lineNumber;
+            this.reason = reason;
+        }
+
+        @Override
+        public String toString() {
+            return "line " + lineNumber + ": " + reason;
+        }
+    }
+
+    /**
+     * The number of persons added by an import, and the rows rejected, in file order.
+     */
+    public static class Result {
+        public final int addedCount;
+        public final List<RejectedRow> rejectedRows;
+
+        Result(int addedCount, List<RejectedRow> rejectedRows) {
+            this.addedCount = addedCount;
+            this.rejectedRows = rejectedRows;
+        }
+    }
+
+    /**
+     * Consecutive lines of the file, with the persons they describe once parsed.
+     */
+    private static class Batch {
+        private final long firstLineNumber;
+        private final List<String> lines = new ArrayList<>(BATCH_SIZE);
+        /** Parsed person for each line, or null if the line was rejected or skipped. */
+        private final Person[] persons = new Person[BATCH_SIZE];
+        private final List<RejectedRow> rejectedRows = new ArrayList<>();
+        /** Error that stopped the reading of this batch early, or null if it was read in full. */
+        private IOException readError;
+
+        Batch(long firstLineNumber) {
+            this.firstLineNumber = firstLineNumber;
+        }
+
+        Batch parse() {
+            for (int i = 0; i < lines.size(); i++) {
+                final String line = lines.get(i);
+                final long lineNumber = firstLineNumber + i;
+                if (line.trim().isEmpty() || (lineNumber == 1 && CsvPersonFormat.isHeader(line))) {
+                    continue;
+                }
+                try {
+                    persons[i] = CsvPersonFormat.parsePerson(line);
+                } catch (IllegalValueException ive) {
+                    rejectedRows.add(new RejectedRow(lineNumber, ive.getMessage()));
+                }
+            }
+            return this;
+        }
+    }
+
+    private CsvPersonImporter() {}
+
+    /**
+     * Adds every valid row of the given file to the address book, skipping the header row, blank lines, invalid
+     * rows and persons already in the address book.
+     *
+     * @throws PartialImportException if the file could not be read to its end, after importing the rows before
+     *         the error.
+     * @throws StorageOperationException if the file could not be opened.
+     */
+    public static Result importInto(Path file, AddressBook addressBook) throws StorageOperationException {
+        final BufferedReader opened;
+        try {
+            opened = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+        } catch (IOException ioe) {
+            throw new StorageOperationException("Error reading from file: " + file);
+        }
+
+        final Deque<CompletableFuture<Batch>> inFlight = new ArrayDeque<>();
+        final List<RejectedRow> rejectedRows = new ArrayList<>();
+        int addedCount = 0;
+        long nextLineNumber = 1;
+        IOException readError = null;
+        try (final BufferedReader reader = opened) {
+            boolean isEndOfFile = false;
+            while (!isEndOfFile || !inFlight.isEmpty()) {
+                if (!isEndOfFile && inFlight.size() < MAX_BATCHES_IN_FLIGHT) {
+                    final Batch batch = readBatch(reader, nextLineNumber);
+                    nextLineNumber += batch.lines.size();
+                    readError = batch.readError;
+                    isEndOfFile = readError != null || batch.lines.size() < BATCH_SIZE;
+                    inFlight.add(CompletableFuture.supplyAsync(batch::parse, ForkJoinPool.commonPool()));
+                    continue;
+                }
+                // batches read before an error are still added
+                addedCount += addParsedPersons(inFlight.remove().join(), addressBook, rejectedRows);
+            }
+        } catch (IOException ioe) {
+            readError = ioe; // only closing the file is left to fail here
+        }
+
+        final Result result = new Result(addedCount, rejectedRows);
+        if (readError != null) {
+            throw new PartialImportException(String.format(MESSAGE_READ_ERROR, file, nextLineNumber - 1), result);
+        }
+        return result;
+    }
+
+    /**
+     * Reads the next batch of lines. An error stops the batch early and is recorded in it, so that the lines
+     * read before the error are still imported.
+     */
+    private static Batch readBatch(BufferedReader reader, long firstLineNumber) {
+        final Batch batch = new Batch(firstLineNumber);
+        try {
+            String line;
+            while (batch.lines.size() < BATCH_SIZE && (line = reader.readLine()) != null) {
+                batch.lines.add(line);
+            }
+        } catch (IOException ioe) {
+            batch.readError = ioe;
+        }
+        return batch;
+    }
+
+    /**
+     * Adds the persons of the parsed batch to the address book in order, and records its rejected rows.
+     *
+     * @return the number of persons added
+     */
+    private static int addParsedPersons(Batch batch, AddressBook addressBook, List<RejectedRow> rejectedRows) {
+        int addedCount = 0;
+        int nextParseRejection = 0;
+        for (int i = 0; i < batch.lines.size(); i++) {
+            final long lineNumber = batch.firstLineNumber + i;
+            // keep rejections in line order, interleaving parse failures with duplicates
+            while (nextParseRejection < batch.rejectedRows.size()
+                    && batch.rejectedRows.get(nextParseRejection).lineNumber <= lineNumber) {
+                rejectedRows.add(batch.rejectedRows.get(nextParseRejection++));
+            }
+            if (batch.persons[i] == null) {
+                continue;
+            }
+            try {
+                addressBook.addPerson(batch.persons[i]);
+                addedCount++;
+            } catch (DuplicatePersonException dpe) {
+                rejectedRows.add(new RejectedRow(lineNumber, MESSAGE_DUPLICATE_PERSON));
+            }
+        }
+        return addedCount;
+    }
+}
@@ -0,0 +1,324 @@
+package seedu.addressbook.storage;
+
+import static seedu.addressbook.storage.BinaryStrings.readLength;
+import static seedu.addressbook.storage.BinaryStrings.readString;
+import static seedu.addressbook.storage.BinaryStrings.writeString;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.AddressBookChangeListener;
+import seedu.addressbook.data.exception.IllegalValueException;
+import seedu.addressbook.data.person.Address;
+import seedu.addressbook.data.person.Email;
+import seedu.addressbook.data.person.Name;
+import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.Phone;
+import seedu.addressbook.data.person.ReadOnlyPerson;
+import seedu.addressbook.data.person.UniquePersonList.PersonNotFoundException;
+import seedu.addressbook.data.tag.Tag;
+import seedu.addressbook.data.tag.TagSet;
+import seedu.addressbook.data.tag.UniqueTagList;
+import seedu.addressbook.storage.StorageFile.StorageOperationException;
+
+/**
+ * Represents the append-only file of changes made to an address book since its last full snapshot.
+ *
+ * Changes reported to this listener are buffered in memory until taken by {@link #takePendingRecords()}
+ * and written to disk by {@link #appendToFile(byte[])}. Once the journal holds more than its maximum number of
+ * records, changes are only counted, since the next save rewrites the full snapshot instead.
+ * Each record on disk is prefixed with its length, so a record cut short by a crash is detected on replay
+ * and discarded.
+ *
+ * The file starts with a header holding the generation of the snapshot it extends. A journal left behind by a
+ * crash after its snapshot was replaced has the generation of the replaced snapshot, so it is ignored on replay
+ * instead of applying changes the new snapshot already holds.
+ */
+public class JournalFile implements AddressBookChangeListener {
+
+    /** "ABJ" followed by a zero byte. */
+    private static final int MAGIC_NUMBER = 0x41424A00;
+    /** Length of the header: the magic number and the generation of the snapshot the journal extends. */
+    private static final int HEADER_LENGTH = Integer.BYTES + Long.BYTES;
+
+    /** Generation reported for a journal file that does not exist or has no valid header. */
+    public static final long NO_GENERATION = -1;
+
+    private static final byte RECORD_ADD = 'A';
+    private static final byte RECORD_REMOVE = 'R';
+    private static final byte RECORD_CLEAR = 'C';
+
+    public final Path path;
+
+    private final ByteArrayOutputStream pendingRecords = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream recordBuffer = new ByteArrayOutputStream();
+    private final DataOutputStream recordOut = new DataOutputStream(recordBuffer);
+    private final DataOutputStream pendingOut = new DataOutputStream(pendingRecords);
+
+    /** Number of records in the journal, including those not yet written to disk. */
+    private int recordCount = 0;
+
+    /** Number of records beyond which pending changes are no longer buffered. */
+    private final int maxRecordCount;
+
+    public JournalFile(Path path) {
+        this(path, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @param maxRecordCount number of records beyond which the journal is due to be replaced by a snapshot
+     */
+    public JournalFile(Path path, int maxRecordCount) {
+        this.path = path;
+        this.maxRecordCount = maxRecordCount;
+    }
+
+    public int getRecordCount() {
+        return recordCount;
+    }
+
+    @Override
+    public void personAdded(ReadOnlyPerson added) {
+        appendRecord(RECORD_ADD, added);
+    }
+
+    @Override
+    public void personRemoved(ReadOnlyPerson removed) {
+        appendRecord(RECORD_REMOVE, removed);
+    }
+
+    @Override
+    public void cleared() {
+        appendRecord(RECORD_CLEAR, null);
+    }
+
+    private void appendRecord(byte recordType, ReadOnlyPerson person) {
+        if (recordCount >= maxRecordCount) {
+            // the records would be discarded when the snapshot is taken, so there is no need to keep them
+            pendingRecords.reset();
+            recordCount++;
+            return;
+        }
+        try {
+            recordBuffer.reset();
+            recordOut.writeByte(recordType);
+            if (person != null) {
+                writePerson(recordOut, person);
+            }
+            pendingOut.writeInt(recordBuffer.size());
+            recordBuffer.writeTo(pendingOut);
+            recordCount++;
+        } catch (IOException ioe) {
+            throw new AssertionError("Writing to an in-memory buffer cannot fail", ioe);
+        }
+    }
+
+    /**
+     * Returns the changes not yet taken for writing, in the on-disk record format, and forgets them.
+     * They still count towards {@link #getRecordCount()}.
+     */
+    public byte[] takePendingRecords() {
+        final byte[] records = pendingRecords.toByteArray();
+        pendingRecords.reset();
+        return records;
+    }
+
+    /**
+     * Discards all pending changes and restarts the record count.
+     * To be called once a full snapshot containing every journaled change has been taken.
+     */
+    public void startNewJournal() {
+        pendingRecords.reset();
+        recordCount = 0;
+    }
+
+    /**
+     * Replaces the journal file on disk with a new journal extending the snapshot of the given generation,
+     * holding the given records, as returned by {@link #takePendingRecords()}.
+     *
+     * @throws StorageOperationException if there were errors writing to the file.
+     */
+    public void startFile(long snapshotGeneration, byte[] records) throws StorageOperationException {
+        try (final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)))) {
+            out.writeInt(MAGIC_NUMBER);
+            out.writeLong(snapshotGeneration);
+            out.write(records);
+        } catch (IOException ioe) {
+            throw new StorageOperationException("Error writing to file: " + path);
+        }
+    }
+
+    /**
+     * Appends the given records, as returned by {@link #takePendingRecords()}, to the journal file on disk,
+     * which must have been started with {@link #startFile(long, byte[])}.
+     *
+     * @throws StorageOperationException if there were errors writing to the file.
+     */
+    public void appendToFile(byte[] records) throws StorageOperationException {
+        if (records.length == 0) {
+            return;
+        }
+        try (final OutputStream out = Files.newOutputStream(path,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            out.write(records);
+        } catch (IOException ioe) {
+            throw new StorageOperationException("Error writing to file: " + path);
+        }
+    }
+
+    /**
+     * Deletes the journal file, if it exists.
+     *
+     * @throws StorageOperationException if the file could not be deleted.
+     */
+    public void deleteFile() throws StorageOperationException {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ioe) {
+            throw new StorageOperationException("Error deleting file: " + path);
+        }
+    }
+
+    /**
+     * Returns the generation of the snapshot the journal file extends, or {@link #NO_GENERATION} if the file
+     * does not exist or has no valid header.
+     *
+     * @throws StorageOperationException if there were errors reading the file.
+     */
+    public long readSnapshotGeneration() throws StorageOperationException {
+        if (!Files.isRegularFile(path)) {
+            return NO_GENERATION;
+        }
+        try (final DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            return readHeader(in);
+        } catch (IOException ioe) {
+            throw new StorageOperationException("Error reading from file: " + path);
+        }
+    }
+
+    private static long readHeader(DataInputStream in) throws IOException {
+        try {
+            return in.readInt() == MAGIC_NUMBER ? in.readLong() : NO_GENERATION;
+        } catch (EOFException eofe) {
+            return NO_GENERATION;
+        }
+    }
+
+    /**
+     * Applies every complete record in the journal file to the given address book, in the order written,
+     * if the journal extends the snapshot of the given generation. A journal extending any other snapshot is
+     * left unapplied. An incomplete record at the end of the file is discarded and cut off the file.
+     *
+     * @return true if the journal file exists and extends the given snapshot, so its records were applied.
+     * @throws StorageOperationException if there were errors reading the file, or the records do not apply
+     *    cleanly to the given address book.
+     */
+    public boolean replayInto(AddressBook addressBook, long snapshotGeneration) throws StorageOperationException {
+        startNewJournal();
+        if (!Files.isRegularFile(path)) {
+            return false;
+        }
+
+        long validLength = HEADER_LENGTH;
+        try (final DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            if (readHeader(in) != snapshotGeneration) {
+                return false;
+            }
+            while (true) {
+                final byte[] record;
+                try {
+                    record = new byte[readLength(in)];
+                    in.readFully(record);
+                } catch (EOFException eofe) {
+                    break;
+                }
+                applyRecord(new DataInputStream(new ByteArrayInputStream(record)), addressBook);
+                validLength += Integer.BYTES + record.length;
+                recordCount++;
+            }
+        } catch (IOException ioe) {
+            throw new StorageOperationException("Error reading from file: " + path);
+        } catch (IllegalValueException ive) {
+            throw new StorageOperationException("File contains illegal data values; data type constraints not met");
+        } catch (PersonNotFoundException pnfe) {
+            throw new StorageOperationException("Journal removes a person not in the address book: " + path);
+        }
+
+        truncateTo(validLength);
+        return true;
+    }
+
+    private void truncateTo(long validLength) throws StorageOperationException {
+        try {
+            if (Files.size(path) <= validLength) {
+                return;
+            }
+            try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+                channel.truncate(validLength);
+            }
+        } catch (IOException ioe) {
+            throw new StorageOperationException("Error writing to file: " + path);
+        }
+    }
+
+    private static void applyRecord(DataInputStream in, AddressBook addressBook)
+            throws IOException, IllegalValueException, PersonNotFoundException {
+        final byte recordType = in.readByte();
+        switch (recordType) {
+        case RECORD_ADD:
+            addressBook.addPerson(readPerson(in));
+            break;
+        case RECORD_REMOVE:
+            addressBook.removePerson(readPerson(in));
+            break;
+        case RECORD_CLEAR:
+            addressBook.clear();
+            break;
+        default:
+            throw new IOException("Unknown journal record type: " + recordType);
+        }
+    }
+
+    private static void writePerson(DataOutputStream out, ReadOnlyPerson person) throws IOException {
+        writeString(out, person.getName().fullName);
+        writeString(out, person.getPhone().value);
+        out.writeBoolean(person.getPhone().isPrivate());
+        writeString(out, person.getEmail().value);
+        out.writeBoolean(person.getEmail().isPrivate());
+        writeString(out, person.getAddress().value);
+        out.writeBoolean(person.getAddress().isPrivate());
+        final TagSet tags = person.getTags();
+        out.writeInt(tags.size());
+        for (Tag tag : tags) {
+            writeString(out, tag.tagName);
+        }
+    }
+
+    private static Person readPerson(DataInputStream in) throws IOException, IllegalValueException {
+        final Name name = new Name(readString(in));
+        final Phone phone = new Phone(readString(in), in.readBoolean());
+        final Email email = new Email(readString(in), in.readBoolean());
+        final Address address = new Address(readString(in), in.readBoolean());
+        final int tagCount = readLength(in);
+        final List<Tag> tags = new ArrayList<>();
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(new Tag(readString(in)));
+        }
+        return new Person(name, phone, email, address, new UniqueTagList(tags));
+    }
+}
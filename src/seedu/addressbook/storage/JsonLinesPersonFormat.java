@@ -0,0 +1,65 @@
+package seedu.addressbook.storage;
+
+import seedu.addressbook.data.person.ReadOnlyPerson;
+import seedu.addressbook.data.tag.Tag;
+
+/**
+ * Converts persons to JSON Lines: one JSON object per person, each on its own line.
+ *
+ * Each object has the fields {@code name}, {@code phone}, {@code phonePrivate}, {@code email},
+ * {@code emailPrivate}, {@code address}, {@code addressPrivate} and {@code tags}, in that order, with the privacy
+ * fields as booleans and the tags as an array of strings.
+ */
+public final class JsonLinesPersonFormat {
+
+    public static final String FILE_EXTENSION = ".jsonl";
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private JsonLinesPersonFormat() {}
+
+    /**
+     * Appends the JSON object describing the given person to {@code line}, without a line separator.
+     */
+    public static void appendPerson(StringBuilder line, ReadOnlyPerson person) {
+        line.append("{\"name\":");
+        appendString(line, person.getName().fullName);
+        line.append(",\"phone\":");
+        appendString(line, person.getPhone().value);
+        line.append(",\"phonePrivate\":").append(person.getPhone().isPrivate());
+        line.append(",\"email\":");
+        appendString(line, person.getEmail().value);
+        line.append(",\"emailPrivate\":").append(person.getEmail().isPrivate());
+        line.append(",\"address\":");
+        appendString(line, person.getAddress().value);
+        line.append(",\"addressPrivate\":").append(person.getAddress().isPrivate());
+        line.append(",\"tags\":[");
+        boolean isFirstTag = true;
+        for (Tag tag : person.getTags()) {
+            if (!isFirstTag) {
+                line.append(',');
+            }
+            appendString(line, tag.tagName);
+            isFirstTag = false;
+        }
+        line.append("]}");
+    }
+
+    /**
+     * Appends the given value as a JSON string, escaping quotes, backslashes and control characters.
+     */
+    private static void appendString(StringBuilder line, String value) {
+        line.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                line.append('\\').append(c);
+            } else if (c < 0x20) {
+                line.append("\\u00").append(HEX_DIGITS[c >> 4]).append(HEX_DIGITS[c & 0xF]);
+            } else {
+                line.append(c);
+            }
+        }
+        line.append('"');
+    }
+}
@@ -0,0 +1,126 @@
+package seedu.addressbook.storage;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import seedu.addressbook.data.exception.IllegalValueException;
+import seedu.addressbook.storage.StorageFile.StorageOperationException;
+
+/**
+ * Converts records read from storage into model objects on the common fork-join pool.
+ *
+ * Errors are reported as if the records had been converted one at a time in order: if several records are
+ * invalid, the error of the earliest one is thrown.
+ */
+final class ParallelRecordConverter {
+
+    /** Number of records below which a range is converted on the current thread instead of being split. */
+    static final int SEQUENTIAL_THRESHOLD = 256;
+
+    /**
+     * Converts a single record, validating its data.
+     */
+    interface Conversion<R, T> {
+        T convert(R record) throws StorageOperationException, IllegalValueException;
+    }
+
+    private ParallelRecordConverter() {}
+
+    /**
+     * Returns the converted records, in the same order as {@code records}.
+     *
+     * @throws StorageOperationException if the earliest invalid record is missing some data.
+     * @throws IllegalValueException if the earliest invalid record violates data constraints.
+     */
+    static <R, T> List<T> convertAll(List<R> records, Conversion<R, T> conversion)
+            throws StorageOperationException, IllegalValueException {
+        final Object[] results = new Object[records.size()];
+        final ConvertTask<R> task = new ConvertTask<>(records, conversion, results, 0, records.size(),
+                new AtomicInteger(Integer.MAX_VALUE));
+        final Failure failure = records.size() < SEQUENTIAL_THRESHOLD
+                ? task.compute()
+                : ForkJoinPool.commonPool().invoke(task);
+
+        if (failure != null) {
+            failure.rethrow();
+        }
+        @SuppressWarnings("unchecked")
+        final List<T> converted = (List<T>) new ArrayList<>(Arrays.asList(results));
+        return converted;
+    }
+
+    /**
+     * Error thrown while converting a record.
+     */
+    private static class Failure {
+        final Exception error;
+
+        Failure(Exception error) {
+            this.error = error;
+        }
+
+        void rethrow() throws StorageOperationException, IllegalValueException {
+            if (error instanceof StorageOperationException) {
+                throw (StorageOperationException) error;
+            }
+            throw (IllegalValueException) error;
+        }
+    }
+
+    /**
+     * Converts a range of records, returning the failure of the earliest invalid record in the range, if any.
+     */
+    private static class ConvertTask<R> extends RecursiveTask<Failure> {
+        private static final long serialVersionUID = 1L;
+
+        private final List<R> records;
+        private final Conversion<R, ?> conversion;
+        private final Object[] results;
+        private final int from;
+        private final int to;
+        /** Index of the earliest failure found so far by any task; records after it need not be converted. */
+        private final AtomicInteger earliestFailureIndex;
+
+        ConvertTask(List<R> records, Conversion<R, ?> conversion, Object[] results, int from, int to,
+                    AtomicInteger earliestFailureIndex) {
+            this.records = records;
+            this.conversion = conversion;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+            this.earliestFailureIndex = earliestFailureIndex;
+        }
+
+        @Override
+        protected Failure compute() {
+            if (to - from <= SEQUENTIAL_THRESHOLD) {
+                return convertRange();
+            }
+            final int middle = (from + to) >>> 1;
+            final ConvertTask<R> right =
+                    new ConvertTask<>(records, conversion, results, middle, to, earliestFailureIndex);
+            right.fork();
+            final Failure leftFailure =
+                    new ConvertTask<>(records, conversion, results, from, middle, earliestFailureIndex).compute();
+            final Failure rightFailure = right.join();
+            // the left half comes first, so its failure takes precedence
+            return leftFailure != null ? leftFailure : rightFailure;
+        }
+
+        private Failure convertRange() {
+            for (int i = from; i < to && i < earliestFailureIndex.get(); i++) {
+                try {
+                    results[i] = conversion.convert(records.get(i));
+                } catch (StorageOperationException | IllegalValueException e) {
+                    earliestFailureIndex.accumulateAndGet(i, Math::min);
+                    return new Failure(e);
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package seedu.addressbook.storage;
+
+import seedu.addressbook.storage.StorageFile.StorageOperationException;
+
+/**
+ * A write to storage that has been captured from the address book but not yet performed.
+ * Captured writes hold everything they need, so they can be performed later on any thread.
+ */
+public abstract class PendingWrite {
+
+    /**
+     * Performs the write.
+     *
+     * @throws StorageOperationException if there were errors converting and/or storing data to file.
+     */
+    public abstract void write() throws StorageOperationException;
+
+    /**
+     * Returns a single write with the same effect as performing this write followed by {@code next},
+     * or null if the two writes cannot be combined.
+     */
+    public abstract PendingWrite combineWith(PendingWrite next);
+}
@@ -0,0 +1,68 @@
+package seedu.addressbook.storage;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.BiConsumer;
+
+import seedu.addressbook.data.person.ReadOnlyPerson;
+import seedu.addressbook.storage.StorageFile.StorageOperationException;
+
+/**
+ * Writes persons, with their privacy flags and tags, to a file in a format picked by its extension:
+ * {@value CsvPersonFormat#FILE_EXTENSION} for {@link CsvPersonFormat} or {@value JsonLinesPersonFormat#FILE_EXTENSION}
+ * for {@link JsonLinesPersonFormat}.
+ *
+ * Persons are converted and written one at a time through a buffered file channel, reusing a single record
+ * buffer, so memory use does not grow with the number of persons.
+ */
+public final class PersonExporter {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private PersonExporter() {}
+
+    /**
+     * Writes the given persons to the file, replacing its previous contents.
+     *
+     * @return the number of persons written
+     * @throws IllegalArgumentException if the file does not have the extension of a supported format.
+     * @throws StorageOperationException if there were errors writing to the file.
+     */
+    public static int exportTo(Path path, Iterable<? extends ReadOnlyPerson> persons)
+            throws StorageOperationException {
+        final boolean isCsv = path.toString().endsWith(CsvPersonFormat.FILE_EXTENSION);
+        if (!isCsv && !path.toString().endsWith(JsonLinesPersonFormat.FILE_EXTENSION)) {
+            throw new IllegalArgumentException("Unsupported export format: " + path);
+        }
+        final BiConsumer<StringBuilder, ReadOnlyPerson> format =
+                isCsv ? CsvPersonFormat::appendPerson : JsonLinesPersonFormat::appendPerson;
+
+        int personCount = 0;
+        try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+             final Writer out = new BufferedWriter(
+                     Channels.newWriter(channel, StandardCharsets.UTF_8.newEncoder(), BUFFER_SIZE), BUFFER_SIZE)) {
+            if (isCsv) {
+                out.write(CsvPersonFormat.HEADER);
+                out.write('\n');
+            }
+            final StringBuilder record = new StringBuilder();
+            for (ReadOnlyPerson person : persons) {
+                record.setLength(0);
+                format.accept(record, person);
+                record.append('\n');
+                out.append(record);
+                personCount++;
+            }
+        } catch (IOException ioe) {
+            throw new StorageOperationException("Error writing to file: " + path);
+        }
+        return personCount;
+    }
+}
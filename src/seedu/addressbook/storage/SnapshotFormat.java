@@ -0,0 +1,47 @@
+package seedu.addressbook.storage;
+
+import java.nio.file.Path;
+
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.person.ReadOnlyPerson;
+import seedu.addressbook.data.tag.Tag;
+import seedu.addressbook.storage.StorageFile.StorageOperationException;
+
+/**
+ * A file format for full snapshots of address book data.
+ * Each snapshot is stamped with a generation number, which links it to the journal of changes made after it.
+ */
+public interface SnapshotFormat {
+
+    /** Generation of snapshots written before generations were recorded. */
+    long UNSTAMPED_GENERATION = 0;
+
+    /**
+     * The data read from a snapshot file, with the generation it was stamped with.
+     */
+    class Snapshot {
+        public final AddressBook addressBook;
+        public final long generation;
+
+        public Snapshot(AddressBook addressBook, long generation) {
+            this.addressBook = addressBook;
+            this.generation = generation;
+        }
+    }
+
+    /**
+     * Writes the given persons and tags to the file, stamped with the given generation, replacing its previous
+     * contents.
+     *
+     * @throws StorageOperationException if there were errors converting and/or storing data to file.
+     */
+    void write(Path path, long generation, Iterable<? extends ReadOnlyPerson> persons, Iterable<Tag> tags)
+            throws StorageOperationException;
+
+    /**
+     * Reads the address book and its generation from the file, which must exist.
+     *
+     * @throws StorageOperationException if there were errors reading and/or converting data from file.
+     */
+    Snapshot read(Path path) throws StorageOperationException;
+}
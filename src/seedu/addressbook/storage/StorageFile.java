@@ -2,33 +2,43 @@ package seedu.addressbook.storage;
 
 import seedu.addressbook.data.AddressBook;
 import seedu.addressbook.data.exception.IllegalValueException;
-import seedu.addressbook.storage.jaxb.AdaptedAddressBook;
-
-import javax.xml.bind.JAXBContext;
-import javax.xml.bind.JAXBException;
-import javax.xml.bind.Marshaller;
-import javax.xml.bind.Unmarshaller;
-
-import java.io.BufferedReader;
-import java.io.BufferedWriter;
-import java.io.FileNotFoundException;
-import java.io.FileReader;
-import java.io.FileWriter;
+import seedu.addressbook.data.person.UniquePersonList;
+import seedu.addressbook.data.tag.UniqueTagList;
+import seedu.addressbook.storage.SnapshotFormat.Snapshot;
+
 import java.io.IOException;
-import java.io.Reader;
-import java.io.Writer;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
 
 /**
  * Represents the file used to store address book data.
+ * The snapshot format is picked by the file extension: {@value XmlSnapshotFormat#FILE_EXTENSION} for XML,
+ * or {@value BinarySnapshotFormat#FILE_EXTENSION} for the compact binary format.
+ *
+ * Snapshots are written to a temporary file and moved over the storage file, so a crash never leaves a partly
+ * written snapshot. Each snapshot gets a new generation number, recorded in the snapshot and in the header of the
+ * journal that extends it, so a journal left over from an earlier snapshot is never replayed onto a later one.
  */
 public class StorageFile {
 
     /** Default file path used if the user doesn't provide the file name. */
     public static final String DEFAULT_STORAGE_FILEPATH = "addressbook.xml";
 
+    /** Suffix appended to the storage file path to get the path of its journal file. */
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    /** Suffix appended to the storage file path to get the path a snapshot is written to before replacing it. */
+    public static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    /** Default number of journal records allowed to accumulate before the journal is compacted into a snapshot. */
+    public static final int DEFAULT_JOURNAL_COMPACTION_THRESHOLD = 1000;
+
+    private static final long UNCHECKED_GENERATION = -1;
+
     /* Note: Note the use of nested classes below.
      * More info https://docs.oracle.com/javase/tutorial/java/javaOO/nested.html
      */
@@ -52,10 +62,33 @@ public class StorageFile {
         }
     }
 
-    private final JAXBContext jaxbContext;
-
     public final Path path;
 
+    private final Path tempPath;
+
+    private final SnapshotFormat snapshotFormat;
+
+    private final JournalFile journal;
+    private final int journalCompactionThreshold;
+
+    /** The address book whose changes are being recorded in {@link #journal}, if any. */
+    private AddressBook journaledAddressBook;
+
+    /** True if a snapshot exists on disk, or has been captured to be written, for {@link #journal} to build on. */
+    private boolean hasSnapshot = false;
+
+    /** Generation of the snapshot last loaded or captured to be written, which {@link #journal} extends. */
+    private long snapshotGeneration = SnapshotFormat.UNSTAMPED_GENERATION;
+
+    /**
+     * Highest generation of any snapshot or journal found on disk or captured to be written, or
+     * {@link #UNCHECKED_GENERATION} if the files on disk have not been checked yet.
+     */
+    private long highestGeneration = UNCHECKED_GENERATION;
+
+    /** True if the journal file on disk extends the current snapshot, so that new records can be appended. */
+    private boolean isJournalFileStarted = false;
+
     /**
      * @throws InvalidStorageFilePathException if the default path is invalid
      */
@@ -67,85 +100,220 @@ public class StorageFile {
      * @throws InvalidStorageFilePathException if the given file path is invalid
      */
     public StorageFile(String filePath) throws InvalidStorageFilePathException {
-        try {
-            jaxbContext = JAXBContext.newInstance(AdaptedAddressBook.class);
-        } catch (JAXBException jaxbe) {
-            throw new RuntimeException("jaxb initialisation error");
-        }
+        this(filePath, DEFAULT_JOURNAL_COMPACTION_THRESHOLD);
+    }
 
+    /**
+     * @param journalCompactionThreshold maximum number of changes kept in the journal before the next save
+     *    rewrites the full snapshot instead. 0 disables journaling, so every save rewrites the snapshot.
+     * @throws InvalidStorageFilePathException if the given file path is invalid
+     */
+    public StorageFile(String filePath, int journalCompactionThreshold) throws InvalidStorageFilePathException {
         path = Paths.get(filePath);
+        tempPath = Paths.get(filePath + TEMP_FILE_SUFFIX);
         if (!isValidPath(path)) {
-            throw new InvalidStorageFilePathException("Storage file should end with '.xml'");
+            throw new InvalidStorageFilePathException("Storage file should end with '"
+                    + XmlSnapshotFormat.FILE_EXTENSION + "' or '" + BinarySnapshotFormat.FILE_EXTENSION + "'");
         }
+        snapshotFormat = isBinaryPath(path) ? new BinarySnapshotFormat() : new XmlSnapshotFormat();
+        journal = new JournalFile(Paths.get(filePath + JOURNAL_FILE_SUFFIX), journalCompactionThreshold);
+        this.journalCompactionThreshold = journalCompactionThreshold;
     }
 
     /**
      * Returns true if the given path is acceptable as a storage file.
-     * The file path is considered acceptable if it ends with '.xml'
+     * The file path is considered acceptable if it ends with '.xml' or '.abk'
      */
     private static boolean isValidPath(Path filePath) {
-        return filePath.toString().endsWith(".xml");
+        return filePath.toString().endsWith(XmlSnapshotFormat.FILE_EXTENSION) || isBinaryPath(filePath);
+    }
+
+    private static boolean isBinaryPath(Path filePath) {
+        return filePath.toString().endsWith(BinarySnapshotFormat.FILE_EXTENSION);
     }
 
     /**
      * Saves all data to this storage file.
      *
      * @throws StorageOperationException if there were errors converting and/or storing data to file.
+     * @see #prepareSave(AddressBook)
      */
     public void save(AddressBook addressBook) throws StorageOperationException {
+        prepareSave(addressBook).write();
+    }
+
+    /**
+     * Captures the write needed to bring this storage file up to date with the address book, without
+     * performing it. Writes must be performed in the order they were prepared.
+     * If the address book is the one last loaded or saved through this storage file, only the changes made
+     * since then are captured for the journal, unless the journal has grown past its compaction threshold.
+     * Otherwise, a full snapshot is captured.
+     *
+     * @throws StorageOperationException if the journal file could not be read to pick the generation of the
+     *    first snapshot, when this storage file was not loaded first.
+     */
+    public PendingWrite prepareSave(AddressBook addressBook) throws StorageOperationException {
+        if (isJournaling(addressBook)
+                && hasSnapshot
+                && journal.getRecordCount() <= journalCompactionThreshold) {
+            final boolean isStartingFile = !isJournalFileStarted;
+            isJournalFileStarted = true;
+            return new JournalAppend(journal.takePendingRecords(), snapshotGeneration, isStartingFile);
+        }
+        if (highestGeneration == UNCHECKED_GENERATION) {
+            // nothing has been written through this storage file yet, so the journal on disk is not changing
+            highestGeneration = getHighestGenerationOnDisk(SnapshotFormat.UNSTAMPED_GENERATION);
+        }
+        // differs from the generation of any journal on disk, including one left by an earlier crash
+        snapshotGeneration = ++highestGeneration;
+        final PendingWrite snapshot =
+                new SnapshotWrite(addressBook.getAllPersons(), addressBook.getAllTags(), snapshotGeneration);
+        journal.startNewJournal();
+        startJournaling(addressBook);
+        hasSnapshot = true;
+        isJournalFileStarted = false;
+        return snapshot;
+    }
+
+    /**
+     * Appends records to the journal file, first replacing any journal file of an earlier snapshot with a new
+     * one if this is the first append since the snapshot.
+     */
+    private class JournalAppend extends PendingWrite {
+        private final byte[] records;
+        private final long snapshotGeneration;
+        private final boolean isStartingFile;
 
-        /* Note: Note the 'try with resource' statement below.
-         * More info: https://docs.oracle.com/javase/tutorial/essential/exceptions/tryResourceClose.html
-         */
-        try (final Writer fileWriter =
-                     new BufferedWriter(new FileWriter(path.toFile()))) {
+        JournalAppend(byte[] records, long snapshotGeneration, boolean isStartingFile) {
+            this.records = records;
+            this.snapshotGeneration = snapshotGeneration;
+            this.isStartingFile = isStartingFile;
+        }
 
-            final AdaptedAddressBook toSave = new AdaptedAddressBook(addressBook);
-            final Marshaller marshaller = jaxbContext.createMarshaller();
-            marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
-            marshaller.marshal(toSave, fileWriter);
+        @Override
+        public void write() throws StorageOperationException {
+            if (isStartingFile) {
+                journal.startFile(snapshotGeneration, records);
+            } else {
+                journal.appendToFile(records);
+            }
+        }
 
+        @Override
+        public PendingWrite combineWith(PendingWrite next) {
+            if (next instanceof SnapshotWrite) {
+                return next;
+            }
+            if (next instanceof JournalAppend) {
+                final byte[] nextRecords = ((JournalAppend) next).records;
+                final byte[] combined = Arrays.copyOf(records, records.length + nextRecords.length);
+                System.arraycopy(nextRecords, 0, combined, records.length, nextRecords.length);
+                return new JournalAppend(combined, snapshotGeneration, isStartingFile);
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Replaces the storage file with the full data, then deletes the journal file as it is now redundant.
+     */
+    private class SnapshotWrite extends PendingWrite {
+        private final UniquePersonList persons;
+        private final UniqueTagList tags;
+        private final long generation;
+
+        SnapshotWrite(UniquePersonList persons, UniqueTagList tags, long generation) {
+            this.persons = persons;
+            this.tags = tags;
+            this.generation = generation;
+        }
+
+        @Override
+        public void write() throws StorageOperationException {
+            snapshotFormat.write(tempPath, generation, persons, tags);
+            replaceWithTempFile();
+            journal.deleteFile();
+        }
+
+        @Override
+        public PendingWrite combineWith(PendingWrite next) {
+            return next instanceof SnapshotWrite ? next : null;
+        }
+    }
+
+    /**
+     * Moves the snapshot written to the temporary file over the storage file, atomically where supported.
+     */
+    private void replaceWithTempFile() throws StorageOperationException {
+        try {
+            try {
+                Files.move(tempPath, path, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException amnse) {
+                Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING);
+            }
         } catch (IOException ioe) {
             throw new StorageOperationException("Error writing to file: " + path);
-        } catch (JAXBException jaxbe) {
-            throw new StorageOperationException("Error converting address book into storage format");
         }
     }
 
+    private boolean isJournaling(AddressBook addressBook) {
+        return journaledAddressBook != null && journaledAddressBook == addressBook;
+    }
+
     /**
-     * Loads data from this storage file.
+     * Records all subsequent changes to the given address book in the journal.
+     */
+    private void startJournaling(AddressBook addressBook) {
+        if (isJournaling(addressBook)) {
+            return;
+        }
+        if (journaledAddressBook != null) {
+            journaledAddressBook.removeChangeListener(journal);
+        }
+        addressBook.addChangeListener(journal);
+        journaledAddressBook = addressBook;
+    }
+
+    /**
+     * Loads data from this storage file, then applies the changes recorded in its journal if the journal
+     * extends the snapshot loaded.
+     * Changes made to the returned address book are journaled by subsequent calls to {@link #save}.
      *
      * @return an {@link AddressBook} containing the data in the file, or an empty {@link AddressBook} if it
      *    does not exist.
      * @throws StorageOperationException if there were errors reading and/or converting data from file.
      */
     public AddressBook load() throws StorageOperationException {
+        hasSnapshot = Files.isRegularFile(path);
+        final Snapshot snapshot = loadSnapshot();
+        final AddressBook loaded = snapshot.addressBook;
+        snapshotGeneration = snapshot.generation;
+        highestGeneration = getHighestGenerationOnDisk(snapshotGeneration);
+        // a journal without its snapshot has nothing to extend
+        isJournalFileStarted = hasSnapshot && journal.replayInto(loaded, snapshotGeneration);
+        startJournaling(loaded);
+        return loaded;
+    }
+
+    /**
+     * Loads the data last written to this storage file as a full snapshot.
+     *
+     * @throws StorageOperationException if there were errors reading and/or converting data from file.
+     */
+    private Snapshot loadSnapshot() throws StorageOperationException {
 
         if (!Files.exists(path) || !Files.isRegularFile(path)) {
-            return new AddressBook();
+            return new Snapshot(new AddressBook(), SnapshotFormat.UNSTAMPED_GENERATION);
         }
 
-        try (final Reader fileReader =
-                     new BufferedReader(new FileReader(path.toFile()))) {
-
-            final Unmarshaller unmarshaller = jaxbContext.createUnmarshaller();
-            final AdaptedAddressBook loaded = (AdaptedAddressBook) unmarshaller.unmarshal(fileReader);
-            // manual check for missing elements
-            if (loaded.isAnyRequiredFieldMissing()) {
-                throw new StorageOperationException("File data missing some elements");
-            }
-            return loaded.toModelType();
+        return snapshotFormat.read(path);
+    }
 
-        } catch (FileNotFoundException fnfe) {
-            throw new AssertionError("A non-existent file scenario is already handled earlier.");
-        // other errors
-        } catch (IOException ioe) {
-            throw new StorageOperationException("Error writing to file: " + path);
-        } catch (JAXBException jaxbe) {
-            throw new StorageOperationException("Error parsing file data format");
-        } catch (IllegalValueException ive) {
-            throw new StorageOperationException("File contains illegal data values; data type constraints not met");
-        }
+    /**
+     * Returns the higher of the given snapshot generation and that of the journal file on disk.
+     */
+    private long getHighestGenerationOnDisk(long snapshotGeneration) throws StorageOperationException {
+        return Math.max(snapshotGeneration, journal.readSnapshotGeneration());
     }
 
     public String getPath() {
@@ -0,0 +1,70 @@
+package seedu.addressbook.storage;
+
+import java.io.PrintStream;
+import java.nio.file.Files;
+
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.storage.StorageFile.InvalidStorageFilePathException;
+import seedu.addressbook.storage.StorageFile.StorageOperationException;
+
+/**
+ * Converts a storage file from one format to another, e.g. from XML to the compact binary format.
+ * The formats are picked by the file extensions, as in {@link StorageFile}.
+ */
+public class StorageFileConverter {
+
+    public static final String MESSAGE_USAGE = "Usage: java seedu.addressbook.storage.StorageFileConverter "
+            + "SOURCE_FILE_PATH TARGET_FILE_PATH\n"
+            + "Example: java seedu.addressbook.storage.StorageFileConverter addressbook.xml addressbook.abk";
+
+    public static final String MESSAGE_SOURCE_NOT_FOUND = "Source storage file does not exist: %1$s";
+
+    /** Exit status of a conversion that succeeded. */
+    public static final int EXIT_SUCCESS = 0;
+
+    /** Exit status of a conversion that failed or was given the wrong arguments. */
+    public static final int EXIT_FAILURE = 1;
+
+    public static void main(String... args) {
+        System.exit(run(System.err, args));
+    }
+
+    /**
+     * Converts the storage file named by the first argument into the one named by the second, reporting any
+     * error to {@code err}.
+     *
+     * @return {@link #EXIT_SUCCESS}, or {@link #EXIT_FAILURE} if the arguments were wrong or the conversion failed.
+     */
+    static int run(PrintStream err, String... args) {
+        if (args.length != 2) {
+            err.println(MESSAGE_USAGE);
+            return EXIT_FAILURE;
+        }
+        try {
+            convert(args[0], args[1]);
+            return EXIT_SUCCESS;
+        } catch (InvalidStorageFilePathException | StorageOperationException e) {
+            err.println(e.getMessage());
+            return EXIT_FAILURE;
+        }
+    }
+
+    /**
+     * Loads the source storage file, including its journal, and saves its data as a full snapshot in the target.
+     *
+     * @throws InvalidStorageFilePathException if either file path is invalid.
+     * @throws StorageOperationException if the source does not exist, or there were errors reading the source or
+     *    writing the target.
+     */
+    public static void convert(String sourceFilePath, String targetFilePath)
+            throws InvalidStorageFilePathException, StorageOperationException {
+        final StorageFile source = new StorageFile(sourceFilePath);
+        final StorageFile target = new StorageFile(targetFilePath);
+        // loading a missing file gives an empty address book, which would silently replace the target
+        if (!Files.isRegularFile(source.path)) {
+            throw new StorageOperationException(String.format(MESSAGE_SOURCE_NOT_FOUND, sourceFilePath));
+        }
+        final AddressBook data = source.load();
+        target.save(data);
+    }
+}
@@ -0,0 +1,225 @@
+package seedu.addressbook.storage;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.exception.IllegalValueException;
+import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.UniquePersonList;
+import seedu.addressbook.data.tag.Tag;
+import seedu.addressbook.data.tag.UniqueTagList;
+import seedu.addressbook.storage.SnapshotFormat.Snapshot;
+import seedu.addressbook.storage.StorageFile.StorageOperationException;
+import seedu.addressbook.storage.xml.AdaptedPerson;
+import seedu.addressbook.storage.xml.AdaptedTag;
+
+/**
+ * Reads an address book from its XML storage format with a pull parser, instead of building a full
+ * object tree. The raw data of persons is read in batches of {@link #CONVERSION_BATCH_SIZE}, and each batch is
+ * validated and converted into {@link Person} objects in parallel.
+ *
+ * Accepts the same documents as the earlier JAXB-based storage: elements are matched by name, unknown elements
+ * are skipped, and each person goes through the same missing field check and model validation.
+ * If several persons are invalid, the error of the first one in the file is reported.
+ */
+public class XmlAddressBookReader {
+
+    static final String ELEMENT_ADDRESS_BOOK = "AddressBook";
+    static final String ELEMENT_PERSON = "persons";
+    static final String ELEMENT_TAG = "tags";
+    static final String ELEMENT_NAME = "name";
+    static final String ELEMENT_PHONE = "phone";
+    static final String ELEMENT_EMAIL = "email";
+    static final String ELEMENT_ADDRESS = "address";
+    static final String ELEMENT_PERSON_TAG = "tagged";
+    static final String ATTRIBUTE_IS_PRIVATE = "isPrivate";
+    static final String ATTRIBUTE_GENERATION = "generation";
+
+    /** Number of persons read before their raw data is converted. */
+    static final int CONVERSION_BATCH_SIZE = 1 << 14;
+
+    private static final XMLInputFactory INPUT_FACTORY = createInputFactory();
+
+    private final XMLStreamReader in;
+
+    /**
+     * Raw value and privacy of a contact detail element.
+     */
+    private static class ContactDetail {
+        private final String value;
+        private final boolean isPrivate;
+
+        ContactDetail(String value, boolean isPrivate) {
+            this.value = value;
+            this.isPrivate = isPrivate;
+        }
+    }
+
+    private static final ContactDetail MISSING_DETAIL = new ContactDetail(null, false);
+
+    private static XMLInputFactory createInputFactory() {
+        final XMLInputFactory factory = XMLInputFactory.newInstance();
+        // storage files never need these, and resolving them would be a security risk
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+
+    public XmlAddressBookReader(InputStream source) throws XMLStreamException {
+        this.in = INPUT_FACTORY.createXMLStreamReader(source);
+    }
+
+    /**
+     * Reads the whole address book document, and the snapshot generation it is stamped with.
+     * A document without a generation is read as {@link SnapshotFormat#UNSTAMPED_GENERATION}.
+     *
+     * @throws XMLStreamException if the document is not well-formed or is not an address book.
+     * @throws StorageOperationException if some required elements are missing.
+     * @throws IllegalValueException if any data constraints are violated.
+     */
+    public Snapshot read() throws XMLStreamException, StorageOperationException, IllegalValueException {
+        try {
+            in.nextTag();
+            if (!ELEMENT_ADDRESS_BOOK.equals(in.getLocalName())) {
+                throw new XMLStreamException("Unexpected root element: " + in.getLocalName());
+            }
+            final long generation = parseGeneration(in.getAttributeValue(null, ATTRIBUTE_GENERATION));
+
+            final List<Person> persons = new ArrayList<>();
+            final List<Tag> tags = new ArrayList<>();
+            final List<AdaptedPerson> pendingPersons = new ArrayList<>();
+            while (in.nextTag() == XMLStreamConstants.START_ELEMENT) {
+                switch (in.getLocalName()) {
+                case ELEMENT_PERSON:
+                    pendingPersons.add(readPerson());
+                    if (pendingPersons.size() >= CONVERSION_BATCH_SIZE) {
+                        convertPendingPersons(pendingPersons, persons);
+                    }
+                    break;
+                case ELEMENT_TAG:
+                    // earlier persons are converted first, so that errors are reported in file order
+                    convertPendingPersons(pendingPersons, persons);
+                    tags.add(toTag(in.getElementText()));
+                    break;
+                default:
+                    skipElement();
+                }
+            }
+            convertPendingPersons(pendingPersons, persons);
+            return new Snapshot(new AddressBook(new UniquePersonList(persons), new UniqueTagList(tags)), generation);
+        } finally {
+            in.close();
+        }
+    }
+
+    private static long parseGeneration(String value) throws XMLStreamException {
+        if (value == null) {
+            return SnapshotFormat.UNSTAMPED_GENERATION;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException nfe) {
+            throw new XMLStreamException("Invalid generation: " + value);
+        }
+    }
+
+    /**
+     * Validates and converts the pending persons in parallel, moving them to {@code persons}.
+     */
+    private static void convertPendingPersons(List<AdaptedPerson> pendingPersons, List<Person> persons)
+            throws StorageOperationException, IllegalValueException {
+        if (pendingPersons.isEmpty()) {
+            return;
+        }
+        persons.addAll(ParallelRecordConverter.convertAll(pendingPersons, XmlAddressBookReader::toPerson));
+        pendingPersons.clear();
+    }
+
+    private static Person toPerson(AdaptedPerson person) throws StorageOperationException, IllegalValueException {
+        if (person.isAnyRequiredFieldMissing()) {
+            throw new StorageOperationException("File data missing some elements");
+        }
+        return person.toModelType();
+    }
+
+    /**
+     * Reads the raw data of the person element the reader is positioned at, leaving the reader at its end tag.
+     */
+    private AdaptedPerson readPerson() throws XMLStreamException {
+        String name = null;
+        ContactDetail phone = MISSING_DETAIL;
+        ContactDetail email = MISSING_DETAIL;
+        ContactDetail address = MISSING_DETAIL;
+        final List<String> tagNames = new ArrayList<>();
+
+        while (in.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            switch (in.getLocalName()) {
+            case ELEMENT_NAME:
+                name = in.getElementText();
+                break;
+            case ELEMENT_PHONE:
+                phone = readContactDetail();
+                break;
+            case ELEMENT_EMAIL:
+                email = readContactDetail();
+                break;
+            case ELEMENT_ADDRESS:
+                address = readContactDetail();
+                break;
+            case ELEMENT_PERSON_TAG:
+                tagNames.add(in.getElementText());
+                break;
+            default:
+                skipElement();
+            }
+        }
+
+        return new AdaptedPerson(name,
+                phone.value, phone.isPrivate,
+                email.value, email.isPrivate,
+                address.value, address.isPrivate,
+                tagNames);
+    }
+
+    private ContactDetail readContactDetail() throws XMLStreamException {
+        final boolean isPrivate = parseBoolean(in.getAttributeValue(null, ATTRIBUTE_IS_PRIVATE));
+        return new ContactDetail(in.getElementText(), isPrivate);
+    }
+
+    /**
+     * Parses an xs:boolean value the way JAXB does, treating a missing or invalid value as false.
+     */
+    private static boolean parseBoolean(String value) {
+        if (value == null) {
+            return false;
+        }
+        final String trimmed = value.trim();
+        return trimmed.equals("true") || trimmed.equals("1");
+    }
+
+    private static Tag toTag(String tagName) throws IllegalValueException {
+        return new AdaptedTag(tagName).toModelType();
+    }
+
+    /**
+     * Skips the element the reader is positioned at, including all its content.
+     */
+    private void skipElement() throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            final int event = in.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+}
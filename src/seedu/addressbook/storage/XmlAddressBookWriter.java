@@ -0,0 +1,106 @@
+package seedu.addressbook.storage;
+
+import static seedu.addressbook.storage.XmlAddressBookReader.ATTRIBUTE_GENERATION;
+import static seedu.addressbook.storage.XmlAddressBookReader.ATTRIBUTE_IS_PRIVATE;
+import static seedu.addressbook.storage.XmlAddressBookReader.ELEMENT_ADDRESS;
+import static seedu.addressbook.storage.XmlAddressBookReader.ELEMENT_ADDRESS_BOOK;
+import static seedu.addressbook.storage.XmlAddressBookReader.ELEMENT_EMAIL;
+import static seedu.addressbook.storage.XmlAddressBookReader.ELEMENT_NAME;
+import static seedu.addressbook.storage.XmlAddressBookReader.ELEMENT_PERSON;
+import static seedu.addressbook.storage.XmlAddressBookReader.ELEMENT_PERSON_TAG;
+import static seedu.addressbook.storage.XmlAddressBookReader.ELEMENT_PHONE;
+import static seedu.addressbook.storage.XmlAddressBookReader.ELEMENT_TAG;
+
+import java.io.IOException;
+import java.io.Writer;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+import seedu.addressbook.data.person.ReadOnlyPerson;
+import seedu.addressbook.data.tag.Tag;
+
+/**
+ * Writes an address book in its XML storage format by streaming each person's data straight to the output.
+ * No intermediate objects are built. The layout matches the formatted output of the earlier JAXB-based storage.
+ */
+public class XmlAddressBookWriter {
+
+    private static final String XML_DECLARATION =
+            "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>";
+    private static final String LINE_BREAK = "\n";
+    private static final String INDENT_PERSON = LINE_BREAK + "    ";
+    private static final String INDENT_PERSON_FIELD = INDENT_PERSON + "    ";
+
+    private static final XMLOutputFactory OUTPUT_FACTORY = XMLOutputFactory.newInstance();
+
+    private final Writer target;
+    private final XMLStreamWriter out;
+
+    /**
+     * @param target must encode characters as UTF-8, as declared in the document.
+     */
+    public XmlAddressBookWriter(Writer target) throws XMLStreamException {
+        this.target = target;
+        this.out = OUTPUT_FACTORY.createXMLStreamWriter(target);
+    }
+
+    /**
+     * Writes the whole address book document, stamped with the given snapshot generation, and flushes it to
+     * the target.
+     */
+    public void write(long generation, Iterable<? extends ReadOnlyPerson> persons, Iterable<Tag> tags)
+            throws XMLStreamException, IOException {
+        // written directly as XMLStreamWriter cannot declare the document standalone
+        target.write(XML_DECLARATION);
+        target.write(LINE_BREAK);
+
+        out.writeStartElement(ELEMENT_ADDRESS_BOOK);
+        out.writeAttribute(ATTRIBUTE_GENERATION, Long.toString(generation));
+        for (ReadOnlyPerson person : persons) {
+            writePerson(person);
+        }
+        for (Tag tag : tags) {
+            writeTextElement(INDENT_PERSON, ELEMENT_TAG, tag.tagName);
+        }
+        out.writeCharacters(LINE_BREAK);
+        out.writeEndElement();
+        out.writeEndDocument();
+        out.flush();
+        target.write(LINE_BREAK);
+        target.flush();
+    }
+
+    private void writePerson(ReadOnlyPerson person) throws XMLStreamException {
+        out.writeCharacters(INDENT_PERSON);
+        out.writeStartElement(ELEMENT_PERSON);
+
+        writeTextElement(INDENT_PERSON_FIELD, ELEMENT_NAME, person.getName().fullName);
+        writeContactDetail(ELEMENT_PHONE, person.getPhone().value, person.getPhone().isPrivate());
+        writeContactDetail(ELEMENT_EMAIL, person.getEmail().value, person.getEmail().isPrivate());
+        writeContactDetail(ELEMENT_ADDRESS, person.getAddress().value, person.getAddress().isPrivate());
+        for (Tag tag : person.getTags()) {
+            writeTextElement(INDENT_PERSON_FIELD, ELEMENT_PERSON_TAG, tag.tagName);
+        }
+
+        out.writeCharacters(INDENT_PERSON);
+        out.writeEndElement();
+    }
+
+    private void writeContactDetail(String elementName, String value, boolean isPrivate)
+            throws XMLStreamException {
+        out.writeCharacters(INDENT_PERSON_FIELD);
+        out.writeStartElement(elementName);
+        out.writeAttribute(ATTRIBUTE_IS_PRIVATE, isPrivate ? "true" : "false");
+        out.writeCharacters(value);
+        out.writeEndElement();
+    }
+
+    private void writeTextElement(String indent, String elementName, String value) throws XMLStreamException {
+        out.writeCharacters(indent);
+        out.writeStartElement(elementName);
+        out.writeCharacters(value);
+        out.writeEndElement();
+    }
+}
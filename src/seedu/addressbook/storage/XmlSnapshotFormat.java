@@ -0,0 +1,73 @@
+package seedu.addressbook.storage;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedWriter;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import javax.xml.stream.XMLStreamException;
+
+import seedu.addressbook.data.exception.IllegalValueException;
+import seedu.addressbook.data.person.ReadOnlyPerson;
+import seedu.addressbook.data.tag.Tag;
+import seedu.addressbook.storage.StorageFile.StorageOperationException;
+
+/**
+ * Human readable XML snapshot format.
+ * Files are streamed with {@link XmlAddressBookWriter} and {@link XmlAddressBookReader}.
+ */
+public class XmlSnapshotFormat implements SnapshotFormat {
+
+    public static final String FILE_EXTENSION = ".xml";
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    @Override
+    public void write(Path path, long generation, Iterable<? extends ReadOnlyPerson> persons, Iterable<Tag> tags)
+            throws StorageOperationException {
+
+        /* Note: Note the 'try with resource' statement below.
+         * More info: https://docs.oracle.com/javase/tutorial/essential/exceptions/tryResourceClose.html
+         */
+        try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                     StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+             final Writer fileWriter = new BufferedWriter(
+                     Channels.newWriter(channel, StandardCharsets.UTF_8.newEncoder(), BUFFER_SIZE), BUFFER_SIZE)) {
+
+            new XmlAddressBookWriter(fileWriter).write(generation, persons, tags);
+
+        } catch (IOException ioe) {
+            throw new StorageOperationException("Error writing to file: " + path);
+        } catch (XMLStreamException xse) {
+            throw new StorageOperationException("Error converting address book into storage format");
+        }
+    }
+
+    @Override
+    public Snapshot read(Path path) throws StorageOperationException {
+        // read as bytes, so that the parser decodes them with the encoding declared in the file
+        try (final InputStream fileStream =
+                     new BufferedInputStream(new FileInputStream(path.toFile()), BUFFER_SIZE)) {
+
+            return new XmlAddressBookReader(fileStream).read();
+
+        } catch (FileNotFoundException fnfe) {
+            throw new AssertionError("A non-existent file scenario is already handled earlier.");
+        // other errors
+        } catch (IOException ioe) {
+            throw new StorageOperationException("Error writing to file: " + path);
+        } catch (XMLStreamException xse) {
+            throw new StorageOperationException("Error parsing file data format");
+        } catch (IllegalValueException ive) {
+            throw new StorageOperationException("File contains illegal data values; data type constraints not met");
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package seedu.addressbook.storage.xml;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.addressbook.common.Utils;
+import seedu.addressbook.data.exception.IllegalValueException;
+import seedu.addressbook.data.person.Address;
+import seedu.addressbook.data.person.Email;
+import seedu.addressbook.data.person.Name;
+import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.Phone;
+import seedu.addressbook.data.tag.Tag;
+import seedu.addressbook.data.tag.UniqueTagList;
+
+/**
+ * Adapted person data holder class, holding the raw fields of a person as read from storage before they are
+ * validated.
+ */
+public class AdaptedPerson {
+
+    private static class AdaptedContactDetail {
+        private final String value;
+        private final boolean isPrivate;
+
+        AdaptedContactDetail(String value, boolean isPrivate) {
+            this.value = value;
+            this.isPrivate = isPrivate;
+        }
+    }
+
+    private final String name;
+    private final AdaptedContactDetail phone;
+    private final AdaptedContactDetail email;
+    private final AdaptedContactDetail address;
+
+    private final List<AdaptedTag> tagged = new ArrayList<>();
+
+    /**
+     * Creates an adapted person from raw field values read from storage.
+     * A null value marks a field that is missing from storage.
+     */
+    public AdaptedPerson(String name,
+                         String phone, boolean isPhonePrivate,
+                         String email, boolean isEmailPrivate,
+                         String address, boolean isAddressPrivate,
+                         List<String> tagNames) {
+        this.name = name;
+        this.phone = toContactDetail(phone, isPhonePrivate);
+        this.email = toContactDetail(email, isEmailPrivate);
+        this.address = toContactDetail(address, isAddressPrivate);
+        for (String tagName : tagNames) {
+            tagged.add(new AdaptedTag(tagName));
+        }
+    }
+
+    private static AdaptedContactDetail toContactDetail(String value, boolean isPrivate) {
+        return value == null ? null : new AdaptedContactDetail(value, isPrivate);
+    }
+
+    /**
+     * Returns true if any required field is missing.
+     *
+     * Since we do most of our validation using the data class constructors, the only extra logic we need
+     * is to ensure that every required field was present in storage.
+     */
+    public boolean isAnyRequiredFieldMissing() {
+        for (AdaptedTag tag : tagged) {
+            if (tag.isAnyRequiredFieldMissing()) {
+                return true;
+            }
+        }
+        return Utils.isAnyNull(name, phone, email, address);
+    }
+
+    /**
+     * Converts this adapted person object into the Person object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted person
+     */
+    public Person toModelType() throws IllegalValueException {
+        final List<Tag> personTags = new ArrayList<>();
+        for (AdaptedTag tag : tagged) {
+            personTags.add(tag.toModelType());
+        }
+        final Name name = new Name(this.name);
+        final Phone phone = new Phone(this.phone.value, this.phone.isPrivate);
+        final Email email = new Email(this.email.value, this.email.isPrivate);
+        final Address address = new Address(this.address.value, this.address.isPrivate);
+        final UniqueTagList tags = new UniqueTagList(personTags);
+        return new Person(name, phone, email, address, tags);
+    }
+}
@@ -0,0 +1,37 @@
+package seedu.addressbook.storage.xml;
+
+import seedu.addressbook.common.Utils;
+import seedu.addressbook.data.exception.IllegalValueException;
+import seedu.addressbook.data.tag.Tag;
+
+/**
+ * Adapted tag data holder class, holding a tag name as read from storage before it is validated.
+ */
+public class AdaptedTag {
+
+    public final String tagName;
+
+    /**
+     * Creates an adapted tag from a raw tag name read from storage.
+     * A null name marks a tag that is missing from storage.
+     */
+    public AdaptedTag(String tagName) {
+        this.tagName = tagName;
+    }
+
+    /**
+     * Returns true if any required field is missing.
+     */
+    public boolean isAnyRequiredFieldMissing() {
+        return Utils.isAnyNull(tagName);
+    }
+
+    /**
+     * Converts this adapted tag object into the Tag object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted person
+     */
+    public Tag toModelType() throws IllegalValueException {
+        return new Tag(tagName);
+    }
+}
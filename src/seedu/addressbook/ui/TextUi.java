@@ -58,7 +58,7 @@ public class TextUi {
      * @param rawInputLine full raw user input line.
      * @return true if the entire user input line should be ignored.
      */
-    private boolean shouldIgnore(String rawInputLine) {
+    public static boolean shouldIgnore(String rawInputLine) {
         return rawInputLine.trim().isEmpty() || isCommentLine(rawInputLine);
     }
 
@@ -68,7 +68,7 @@ public class TextUi {
      * @param rawInputLine full raw user input line.
      * @return true if input line is a comment.
      */
-    private boolean isCommentLine(String rawInputLine) {
+    private static boolean isCommentLine(String rawInputLine) {
         return rawInputLine.trim().matches(COMMENT_LINE_FORMAT_REGEX);
     }
 
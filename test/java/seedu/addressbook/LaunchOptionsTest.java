@@ -0,0 +1,148 @@
+package seedu.addressbook;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static seedu.addressbook.common.Messages.MESSAGE_CHECKPOINT_WITHOUT_BATCH;
+import static seedu.addressbook.common.Messages.MESSAGE_INVALID_CHECKPOINT_INTERVAL;
+import static seedu.addressbook.common.Messages.MESSAGE_INVALID_SAVE_BATCH_SIZE;
+import static seedu.addressbook.common.Messages.MESSAGE_INVALID_SAVE_DELAY;
+import static seedu.addressbook.common.Messages.MESSAGE_MISSING_LAUNCH_OPTION_VALUE;
+
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.addressbook.LaunchOptions.InvalidLaunchOptionsException;
+import seedu.addressbook.storage.AsyncStorageWriter;
+import seedu.addressbook.storage.CheckpointedSaver;
+
+public class LaunchOptionsTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void parse_noArgs_interactiveWithDefaultStorage() throws Exception {
+        LaunchOptions options = LaunchOptions.parse();
+
+        assertFalse(options.getBatchFile().isPresent());
+        assertFalse(options.getStorageFilePath().isPresent());
+        assertEquals(LaunchOptions.INTERACTIVE_CHECKPOINT_INTERVAL, options.getCheckpointInterval());
+        assertEquals(AsyncStorageWriter.DEFAULT_MAX_DELAY_MILLIS, options.getSaveDelayMillis());
+        assertEquals(AsyncStorageWriter.DEFAULT_MAX_PENDING_SAVES, options.getSaveBatchSize());
+    }
+
+    @Test
+    public void parse_storageFileOnly_interactiveWithThatStorage() throws Exception {
+        LaunchOptions options = LaunchOptions.parse("mydata.xml");
+
+        assertFalse(options.getBatchFile().isPresent());
+        assertEquals(Optional.of("mydata.xml"), options.getStorageFilePath());
+        assertEquals(LaunchOptions.INTERACTIVE_CHECKPOINT_INTERVAL, options.getCheckpointInterval());
+    }
+
+    @Test
+    public void parse_batchWithoutCheckpoint_savesOnlyAtEnd() throws Exception {
+        LaunchOptions options = LaunchOptions.parse("--batch", "commands.txt");
+
+        assertEquals(Optional.of(Paths.get("commands.txt")), options.getBatchFile());
+        assertFalse(options.getStorageFilePath().isPresent());
+        assertEquals(CheckpointedSaver.NO_CHECKPOINTS, options.getCheckpointInterval());
+    }
+
+    @Test
+    public void parse_optionsInAnyOrderAroundStorageFile_allRead() throws Exception {
+        LaunchOptions options = LaunchOptions.parse("--checkpoint", "500", "mydata.xml", "--batch", "commands.txt");
+
+        assertEquals(Optional.of(Paths.get("commands.txt")), options.getBatchFile());
+        assertEquals(Optional.of("mydata.xml"), options.getStorageFilePath());
+        assertEquals(500, options.getCheckpointInterval());
+    }
+
+    @Test
+    public void parse_saveDelayAndBatch_readInteractively() throws Exception {
+        LaunchOptions options = LaunchOptions.parse("--save-batch", "20", "mydata.xml", "--save-delay", "0");
+
+        assertFalse(options.getBatchFile().isPresent());
+        assertEquals(Optional.of("mydata.xml"), options.getStorageFilePath());
+        assertEquals(0, options.getSaveDelayMillis());
+        assertEquals(20, options.getSaveBatchSize());
+    }
+
+    @Test
+    public void parse_saveDelayAndBatchWithBatchRun_allRead() throws Exception {
+        LaunchOptions options = LaunchOptions.parse("--batch", "commands.txt", "--checkpoint", "500",
+                "--save-delay", "5000", "--save-batch", "1");
+
+        assertEquals(Optional.of(Paths.get("commands.txt")), options.getBatchFile());
+        assertEquals(500, options.getCheckpointInterval());
+        assertEquals(5000, options.getSaveDelayMillis());
+        assertEquals(1, options.getSaveBatchSize());
+    }
+
+    @Test
+    public void parse_saveDelayNegative_throwsInvalidLaunchOptionsException() throws Exception {
+        thrown.expect(InvalidLaunchOptionsException.class);
+        thrown.expectMessage(String.format(MESSAGE_INVALID_SAVE_DELAY, "-1"));
+        LaunchOptions.parse("--save-delay", "-1");
+    }
+
+    @Test
+    public void parse_saveDelayMissingValue_throwsInvalidLaunchOptionsException() throws Exception {
+        thrown.expect(InvalidLaunchOptionsException.class);
+        thrown.expectMessage(String.format(MESSAGE_MISSING_LAUNCH_OPTION_VALUE, LaunchOptions.SAVE_DELAY_OPTION));
+        LaunchOptions.parse("mydata.xml", "--save-delay");
+    }
+
+    @Test
+    public void parse_saveBatchNotPositive_throwsInvalidLaunchOptionsException() throws Exception {
+        thrown.expect(InvalidLaunchOptionsException.class);
+        thrown.expectMessage(String.format(MESSAGE_INVALID_SAVE_BATCH_SIZE, "0"));
+        LaunchOptions.parse("--save-batch", "0");
+    }
+
+    @Test
+    public void parse_saveBatchTooLarge_throwsInvalidLaunchOptionsException() throws Exception {
+        thrown.expect(InvalidLaunchOptionsException.class);
+        thrown.expectMessage(String.format(MESSAGE_INVALID_SAVE_BATCH_SIZE, "3000000000"));
+        LaunchOptions.parse("--save-batch", "3000000000");
+    }
+
+    @Test
+    public void parse_batchMissingValue_throwsInvalidLaunchOptionsException() throws Exception {
+        thrown.expect(InvalidLaunchOptionsException.class);
+        thrown.expectMessage(String.format(MESSAGE_MISSING_LAUNCH_OPTION_VALUE, LaunchOptions.BATCH_OPTION));
+        LaunchOptions.parse("mydata.xml", "--batch");
+    }
+
+    @Test
+    public void parse_checkpointMissingValue_throwsInvalidLaunchOptionsException() throws Exception {
+        thrown.expect(InvalidLaunchOptionsException.class);
+        thrown.expectMessage(String.format(MESSAGE_MISSING_LAUNCH_OPTION_VALUE, LaunchOptions.CHECKPOINT_OPTION));
+        LaunchOptions.parse("--batch", "commands.txt", "--checkpoint");
+    }
+
+    @Test
+    public void parse_checkpointNotPositive_throwsInvalidLaunchOptionsException() throws Exception {
+        thrown.expect(InvalidLaunchOptionsException.class);
+        thrown.expectMessage(String.format(MESSAGE_INVALID_CHECKPOINT_INTERVAL, "0"));
+        LaunchOptions.parse("--batch", "commands.txt", "--checkpoint", "0");
+    }
+
+    @Test
+    public void parse_checkpointNotNumber_throwsInvalidLaunchOptionsException() throws Exception {
+        thrown.expect(InvalidLaunchOptionsException.class);
+        thrown.expectMessage(String.format(MESSAGE_INVALID_CHECKPOINT_INTERVAL, "ten"));
+        LaunchOptions.parse("--batch", "commands.txt", "--checkpoint", "ten");
+    }
+
+    @Test
+    public void parse_checkpointWithoutBatch_throwsInvalidLaunchOptionsException() throws Exception {
+        thrown.expect(InvalidLaunchOptionsException.class);
+        thrown.expectMessage(MESSAGE_CHECKPOINT_WITHOUT_BATCH);
+        LaunchOptions.parse("--checkpoint", "10", "mydata.xml");
+    }
+}
@@ -42,20 +42,41 @@ public class FindCommandTest {
         assertFindCommandBehavior(new String[]{"Clementi"}, Collections.emptyList());
     }
 
+    @Test
+    public void execute_caseAndAccentIgnored() throws IllegalValueException {
+        //same word, different case: matched
+        assertFindCommandBehavior(new String[]{"aMy"}, true, Arrays.asList(td.amy));
+
+        //same word, with accents: matched
+        assertFindCommandBehavior(new String[]{"\u00c1my"}, true, Arrays.asList(td.amy));
+
+        //partial word: not matched
+        assertFindCommandBehavior(new String[]{"my"}, true, Collections.emptyList());
+
+        //multiple words in different cases: matched
+        assertFindCommandBehavior(new String[]{"AMY", "bill", "cAnDy", "destiny"}, true,
+                Arrays.asList(td.amy, td.bill, td.candy));
+    }
+
     /**
      * Executes the find command for the given keywords and verifies
      * the result matches the persons in the expectedPersonList exactly.
      */
     private void assertFindCommandBehavior(String[] keywords, List<ReadOnlyPerson> expectedPersonList) {
-        FindCommand command = createFindCommand(keywords);
+        assertFindCommandBehavior(keywords, false, expectedPersonList);
+    }
+
+    private void assertFindCommandBehavior(String[] keywords, boolean isCaseAndAccentIgnored,
+                                           List<ReadOnlyPerson> expectedPersonList) {
+        FindCommand command = createFindCommand(keywords, isCaseAndAccentIgnored);
         CommandResult result = command.execute();
 
         assertEquals(Command.getMessageForPersonListShownSummary(expectedPersonList), result.feedbackToUser);
     }
 
-    private FindCommand createFindCommand(String[] keywords) {
+    private FindCommand createFindCommand(String[] keywords, boolean isCaseAndAccentIgnored) {
         final Set<String> keywordSet = new HashSet<>(Arrays.asList(keywords));
-        FindCommand command = new FindCommand(keywordSet);
+        FindCommand command = new FindCommand(keywordSet, isCaseAndAccentIgnored);
         command.setData(addressBook, Collections.emptyList());
         return command;
     }
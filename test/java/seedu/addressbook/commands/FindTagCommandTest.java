@@ -0,0 +1,60 @@
+package seedu.addressbook.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.exception.IllegalValueException;
+import seedu.addressbook.data.person.ReadOnlyPerson;
+import seedu.addressbook.data.tag.TagDictionary;
+import seedu.addressbook.util.TypicalPersons;
+
+public class FindTagCommandTest {
+
+    private final AddressBook addressBook = new TypicalPersons().getTypicalAddressBook();
+    private final TypicalPersons td = new TypicalPersons();
+
+    @Test
+    public void execute() throws IllegalValueException {
+        //tag of a person: matched
+        assertFindTagCommandBehavior(new String[]{"Test"}, false, Arrays.asList(td.dan));
+
+        //tag no person ever had, with any tag required: other tags still matched
+        assertFindTagCommandBehavior(new String[]{"Test", "findTagNeverGiven"}, false, Arrays.asList(td.dan));
+
+        //tag no person ever had, with all tags required: not matched
+        assertFindTagCommandBehavior(new String[]{"Test", "findTagNeverGiven"}, true, Collections.emptyList());
+    }
+
+    @Test
+    public void execute_unknownTag_notInterned() throws IllegalValueException {
+        assertFindTagCommandBehavior(new String[]{"findTagNeverInterned"}, false, Collections.emptyList());
+        assertFindTagCommandBehavior(new String[]{"findTagNeverInterned"}, true, Collections.emptyList());
+
+        assertFalse(TagDictionary.find("findTagNeverInterned").isPresent());
+    }
+
+    /**
+     * Executes the findtag command for the given tag names and verifies
+     * the result matches the persons in the expectedPersonList exactly.
+     */
+    private void assertFindTagCommandBehavior(String[] tagNames, boolean isAllTagsRequired,
+                                              List<ReadOnlyPerson> expectedPersonList)
+            throws IllegalValueException {
+        final Set<String> tagNameSet = new HashSet<>(Arrays.asList(tagNames));
+        FindTagCommand command = new FindTagCommand(tagNameSet, isAllTagsRequired);
+        command.setData(addressBook, Collections.emptyList());
+        CommandResult result = command.execute();
+
+        assertEquals(Command.getMessageForPersonListShownSummary(expectedPersonList), result.feedbackToUser);
+    }
+
+}
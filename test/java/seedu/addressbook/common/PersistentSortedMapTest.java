@@ -0,0 +1,68 @@
+package seedu.addressbook.common;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.junit.Test;
+
+public class PersistentSortedMapTest {
+
+    @Test
+    public void putAndRemove_randomOperations_matchesTreeMap() {
+        Random random = new Random(42);
+        PersistentSortedMap<Integer, String> map = PersistentSortedMap.empty(Comparator.naturalOrder());
+        TreeMap<Integer, String> expected = new TreeMap<>();
+
+        for (int i = 0; i < 5000; i++) {
+            int key = random.nextInt(500);
+            if (random.nextBoolean()) {
+                map = map.put(key, "v" + i);
+                expected.put(key, "v" + i);
+            } else {
+                map = map.remove(key);
+                expected.remove(key);
+            }
+        }
+
+        assertSameContents(expected, map);
+        assertNull(map.get(-1));
+    }
+
+    @Test
+    public void putAndRemove_oldVersionsUnchanged() {
+        PersistentSortedMap<Integer, String> empty = PersistentSortedMap.empty(Comparator.naturalOrder());
+        PersistentSortedMap<Integer, String> oneToThree = empty.put(2, "b").put(1, "a").put(3, "c");
+        PersistentSortedMap<Integer, String> withoutTwo = oneToThree.remove(2);
+        PersistentSortedMap<Integer, String> replacedThree = oneToThree.put(3, "z");
+
+        assertTrue(empty.isEmpty());
+        assertEquals("b", oneToThree.get(2));
+        assertEquals("c", oneToThree.get(3));
+        assertNull(withoutTwo.get(2));
+        assertEquals("z", replacedThree.get(3));
+        assertTrue(oneToThree.remove(4) == oneToThree);
+    }
+
+    private static void assertSameContents(TreeMap<Integer, String> expected,
+                                           PersistentSortedMap<Integer, String> map) {
+        assertEquals(expected.size(), map.size());
+        List<String> expectedValues = new ArrayList<>(expected.values());
+        Iterator<String> values = map.valueIterator();
+        for (int i = 0; i < expectedValues.size(); i++) {
+            assertEquals(expectedValues.get(i), map.getByIndex(i));
+            assertEquals(expectedValues.get(i), values.next());
+        }
+        for (Map.Entry<Integer, String> entry : expected.entrySet()) {
+            assertEquals(entry.getValue(), map.get(entry.getKey()));
+        }
+    }
+}
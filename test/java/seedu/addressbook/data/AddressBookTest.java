@@ -1,11 +1,19 @@
 package seedu.addressbook.data;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static seedu.addressbook.util.TestUtil.getSize;
 import static seedu.addressbook.util.TestUtil.isEmpty;
 import static seedu.addressbook.util.TestUtil.isIdentical;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -16,10 +24,12 @@ import seedu.addressbook.data.person.Email;
 import seedu.addressbook.data.person.Name;
 import seedu.addressbook.data.person.Person;
 import seedu.addressbook.data.person.Phone;
+import seedu.addressbook.data.person.ReadOnlyPerson;
 import seedu.addressbook.data.person.UniquePersonList;
 import seedu.addressbook.data.person.UniquePersonList.DuplicatePersonException;
 import seedu.addressbook.data.person.UniquePersonList.PersonNotFoundException;
 import seedu.addressbook.data.tag.Tag;
+import seedu.addressbook.data.tag.TagDictionary;
 import seedu.addressbook.data.tag.UniqueTagList;
 
 public class AddressBookTest {
@@ -76,6 +86,35 @@ public class AddressBookTest {
     @Rule
     public ExpectedException thrown = ExpectedException.none();
 
+    @Test
+    public void constructor_someTagsNotInTagList_tagsAdded() throws Exception {
+        AddressBook addressBook = new AddressBook(new UniquePersonList(charlieDouglas, davidElliot),
+                                                  new UniqueTagList(tagMathematician, tagScientist));
+
+        UniqueTagList expectedTagList =
+                new UniqueTagList(tagMathematician, tagScientist, tagEconomist, tagPrizeWinner);
+        assertTrue(isIdentical(expectedTagList, addressBook.getAllTags()));
+    }
+
+    @Test
+    public void tag_sameName_sameIdAndEqual() throws Exception {
+        Tag otherScientist = new Tag(" scientist ");
+
+        assertEquals(tagScientist.id, otherScientist.id);
+        assertEquals(tagScientist, otherScientist);
+        assertTrue(tagScientist.tagName == otherScientist.tagName);
+        assertFalse(tagScientist.equals(tagEconomist));
+    }
+
+    @Test
+    public void personGetTags_sameSetEveryCall_containsOnlyPersonTags() throws Exception {
+        assertTrue(davidElliot.getTags() == davidElliot.getTags());
+        assertTrue(davidElliot.getTags().contains(tagEconomist));
+        assertTrue(davidElliot.getTags().contains(new Tag("prizewinner")));
+        assertFalse(davidElliot.getTags().contains(tagScientist));
+        assertEquals(2, davidElliot.getTags().size());
+    }
+
     @Test
     public void addPerson_emptyAddressBook() throws Exception {
         emptyAddressBook.addPerson(bobChaplin);
@@ -84,18 +123,18 @@ public class AddressBookTest {
         UniqueTagList expectedTagList = new UniqueTagList(tagMathematician, tagScientist);
         assertTrue(isIdentical(expectedTagList, emptyAddressBook.getAllTags()));
 
-        assertTrue(isTagObjectInAddressBookList(tagMathematician, emptyAddressBook));
-        assertTrue(isTagObjectInAddressBookList(tagScientist, emptyAddressBook));
+        assertTrue(isInternedTagInAddressBookList(tagMathematician, emptyAddressBook));
+        assertTrue(isInternedTagInAddressBookList(tagScientist, emptyAddressBook));
 
     }
 
     @Test
     public void addPerson_someTagsNotInTagList() throws Exception {
-        assertFalse(isTagObjectInAddressBookList(tagEconomist, defaultAddressBook));
-        assertFalse(isTagObjectInAddressBookList(tagPrizeWinner, defaultAddressBook));
+        assertFalse(isInternedTagInAddressBookList(tagEconomist, defaultAddressBook));
+        assertFalse(isInternedTagInAddressBookList(tagPrizeWinner, defaultAddressBook));
         defaultAddressBook.addPerson(davidElliot);
-        assertTrue(isTagObjectInAddressBookList(tagEconomist, defaultAddressBook));
-        assertTrue(isTagObjectInAddressBookList(tagPrizeWinner, defaultAddressBook));
+        assertTrue(isInternedTagInAddressBookList(tagEconomist, defaultAddressBook));
+        assertTrue(isInternedTagInAddressBookList(tagPrizeWinner, defaultAddressBook));
     }
 
     @Test
@@ -114,7 +153,7 @@ public class AddressBookTest {
             // ignore expected exception
         }
 
-        assertFalse(isTagObjectInAddressBookList(tagPrizeWinner, defaultAddressBook));
+        assertFalse(isInternedTagInAddressBookList(tagPrizeWinner, defaultAddressBook));
     }
 
     @Test
@@ -136,6 +175,17 @@ public class AddressBookTest {
         }
     }
 
+    @Test
+    public void containsPerson_sameNameAndPhoneButDifferentDetails_returnsTrue() throws Exception {
+        Person aliceWithOtherDetails = new Person(aliceBetsy.getName(),
+                                                  aliceBetsy.getPhone(),
+                                                  new Email("betsy@nushackers.org", true),
+                                                  new Address("12 Kent Ridge", true),
+                                                  new UniqueTagList(tagEconomist));
+
+        assertTrue(defaultAddressBook.containsPerson(aliceWithOtherDetails));
+    }
+
     @Test
     public void removePerson_personExists_removesNormally() throws Exception {
         int numberOfPersonsBeforeRemoval = getSize(defaultAddressBook.getAllPersons());
@@ -148,6 +198,17 @@ public class AddressBookTest {
 
     }
 
+    @Test
+    public void removePerson_equalCopyOfPerson_removedFromIndexes() throws Exception {
+        defaultAddressBook.removePerson(new Person(aliceBetsy));
+
+        assertEquals(Arrays.asList(bobChaplin),
+                defaultAddressBook.getPersonsWithNameContainingAnyWord(Arrays.asList("Alice", "Bob")));
+        assertEquals(Arrays.asList(bobChaplin),
+                defaultAddressBook.getPersonsWithAnyTag(Arrays.asList(tagMathematician)));
+        assertTrue(defaultAddressBook.getPersonsWithEmailDomain(Arrays.asList("nushackers.org")).isEmpty());
+    }
+
     @Test
     public void removePerson_personNotExists_throwsPersonNotFoundException() throws Exception {
         thrown.expect(PersonNotFoundException.class);
@@ -170,6 +231,16 @@ public class AddressBookTest {
         assertTrue(isIdentical(allPersons, personsToCheck));
     }
 
+    @Test
+    public void getAllPersons_laterChanges_notVisibleInReturnedList() throws Exception {
+        UniquePersonList allPersons = defaultAddressBook.getAllPersons();
+        defaultAddressBook.addPerson(charlieDouglas);
+        defaultAddressBook.removePerson(aliceBetsy);
+
+        assertTrue(isIdentical(allPersons, new UniquePersonList(aliceBetsy, bobChaplin)));
+        assertTrue(isIdentical(defaultAddressBook.getAllPersons(), new UniquePersonList(bobChaplin, charlieDouglas)));
+    }
+
     @Test
     public void getAllTags() throws Exception {
         UniqueTagList allTags = defaultAddressBook.getAllTags();
@@ -178,12 +249,277 @@ public class AddressBookTest {
         assertTrue(isIdentical(allTags, tagsToCheck));
     }
 
+    @Test
+    public void getPersonsWithNameContainingAnyWord_afterChanges_returnsMatchesInAddressBookOrder() throws Exception {
+        defaultAddressBook.addPerson(charlieDouglas);
+        defaultAddressBook.addPerson(davidElliot);
+        defaultAddressBook.removePerson(bobChaplin);
+
+        List<ReadOnlyPerson> found = defaultAddressBook.getPersonsWithNameContainingAnyWord(
+                Arrays.asList("Elliot", "Bob", "Alice", "Douglas"));
+
+        assertEquals(Arrays.asList(aliceBetsy, charlieDouglas, davidElliot), found);
+    }
+
+    @Test
+    public void getPersonsWithNameContainingAnyWordIgnoringCase_afterChanges_returnsMatchesInAddressBookOrder()
+            throws Exception {
+        defaultAddressBook.addPerson(charlieDouglas);
+        defaultAddressBook.addPerson(davidElliot);
+        defaultAddressBook.removePerson(bobChaplin);
+
+        // different case, accents and a full-width letter
+        List<ReadOnlyPerson> found = defaultAddressBook.getPersonsWithNameContainingAnyWordIgnoringCase(
+                Arrays.asList("ELLIOT", "bob", "\u00c1lice", "\uff24ouglas"));
+
+        assertEquals(Arrays.asList(aliceBetsy, charlieDouglas, davidElliot), found);
+        assertTrue(defaultAddressBook.getPersonsWithNameContainingAnyWordIgnoringCase(Arrays.asList("lic")).isEmpty());
+
+        defaultAddressBook.clear();
+        assertTrue(defaultAddressBook.getPersonsWithNameContainingAnyWordIgnoringCase(Arrays.asList("bob")).isEmpty());
+    }
+
+    @Test
+    public void getPersonsWithNameContainingWordNearAny_typos_returnsClosestMatchesFirst() throws Exception {
+        defaultAddressBook.addPerson(charlieDouglas);
+        defaultAddressBook.addPerson(davidElliot);
+
+        // one swap of neighbouring characters
+        assertEquals(Arrays.asList(charlieDouglas),
+                defaultAddressBook.getPersonsWithNameContainingWordNearAny(Arrays.asList("Duoglas")));
+        // "Bob" matches exactly, "Alise" needs one substitution
+        assertEquals(Arrays.asList(bobChaplin, aliceBetsy),
+                defaultAddressBook.getPersonsWithNameContainingWordNearAny(Arrays.asList("Alise", "Bob")));
+        // long keywords allow two typos, short ones only one
+        assertEquals(Arrays.asList(charlieDouglas),
+                defaultAddressBook.getPersonsWithNameContainingWordNearAny(Arrays.asList("Charlee")));
+        assertTrue(defaultAddressBook.getPersonsWithNameContainingWordNearAny(Arrays.asList("Dvd")).isEmpty());
+        assertTrue(defaultAddressBook.getPersonsWithNameContainingWordNearAny(Arrays.asList("Zebra")).isEmpty());
+
+        defaultAddressBook.removePerson(charlieDouglas);
+        assertTrue(defaultAddressBook.getPersonsWithNameContainingWordNearAny(Arrays.asList("Duoglas")).isEmpty());
+    }
+
+    @Test
+    public void getPersonsWithNameContainingWordNearAny_noSharedTrigrams_returnsMatches() throws Exception {
+        Person abcdef = new Person(new Name("abcdef Yy"), new Phone("12345", false), new Email("a@b.com", false),
+                                   new Address("Clementi", false), new UniqueTagList());
+        defaultAddressBook.addPerson(abcdef);
+
+        // two swaps of neighbouring characters, leaving no trigram of "abcdef" in "bacdfe"
+        assertEquals(Arrays.asList(abcdef),
+                defaultAddressBook.getPersonsWithNameContainingWordNearAny(Arrays.asList("bacdfe")));
+        assertEquals(Arrays.asList(abcdef),
+                defaultAddressBook.getPersonsWithNameContainingWordNearAny(Arrays.asList("bacdefg")));
+        assertTrue(defaultAddressBook.getPersonsWithNameContainingWordNearAny(Arrays.asList("badcfe")).isEmpty());
+
+        defaultAddressBook.removePerson(abcdef);
+        assertTrue(defaultAddressBook.getPersonsWithNameContainingWordNearAny(Arrays.asList("bacdfe")).isEmpty());
+    }
+
+    @Test
+    public void getPersonsWithNameContainingWordNearAny_severalKeywordsAtSameDistance_returnsInAddressBookOrder()
+            throws Exception {
+        defaultAddressBook.addPerson(charlieDouglas);
+
+        assertEquals(Arrays.asList(aliceBetsy, bobChaplin, charlieDouglas),
+                defaultAddressBook.getPersonsWithNameContainingWordNearAny(
+                        new LinkedHashSet<>(Arrays.asList("Charlie", "Bob", "Alice"))));
+        // "Bob" matches exactly, "Charlee" and "Alise" need one substitution each
+        assertEquals(Arrays.asList(bobChaplin, aliceBetsy, charlieDouglas),
+                defaultAddressBook.getPersonsWithNameContainingWordNearAny(
+                        new LinkedHashSet<>(Arrays.asList("Charlee", "Alise", "Bob"))));
+    }
+
+    @Test
+    public void getPersonsWithNameWordStartingWith_afterChanges_returnsMatchesByWordUpToLimit() throws Exception {
+        defaultAddressBook.addPerson(charlieDouglas);
+        defaultAddressBook.addPerson(davidElliot);
+        defaultAddressBook.removePerson(bobChaplin);
+
+        assertEquals(Arrays.asList(aliceBetsy),
+                defaultAddressBook.getPersonsWithNameWordStartingWith("B", 10));
+        // "David" comes before "Douglas", although David Elliot was added later
+        assertEquals(Arrays.asList(davidElliot, charlieDouglas),
+                defaultAddressBook.getPersonsWithNameWordStartingWith("D", 10));
+        assertEquals(Arrays.asList(davidElliot),
+                defaultAddressBook.getPersonsWithNameWordStartingWith("D", 1));
+        assertEquals(Arrays.asList(charlieDouglas),
+                defaultAddressBook.getPersonsWithNameWordStartingWith("Dou", 10));
+        assertTrue(defaultAddressBook.getPersonsWithNameWordStartingWith("Bo", 10).isEmpty());
+        assertTrue(defaultAddressBook.getPersonsWithNameWordStartingWith("d", 10).isEmpty());
+        assertTrue(defaultAddressBook.getPersonsWithNameWordStartingWith("Douglass", 10).isEmpty());
+    }
+
+    @Test
+    public void getPersonsWithPhone_afterChanges_returnsExactMatchesInAddressBookOrder() throws Exception {
+        Person bobWithAlicePhone = new Person(new Name("Bob Betsy"), aliceBetsy.getPhone(), bobChaplin.getEmail(),
+                                              bobChaplin.getAddress(), new UniqueTagList());
+        defaultAddressBook.addPerson(charlieDouglas);
+        defaultAddressBook.addPerson(bobWithAlicePhone);
+
+        assertEquals(Arrays.asList(aliceBetsy, bobWithAlicePhone),
+                defaultAddressBook.getPersonsWithPhone("91235468"));
+        assertEquals(Arrays.asList(bobChaplin), defaultAddressBook.getPersonsWithPhone("94321500"));
+        // prefixes and extensions of a number are not exact matches
+        assertTrue(defaultAddressBook.getPersonsWithPhone("9123546").isEmpty());
+        assertTrue(defaultAddressBook.getPersonsWithPhone("912354680").isEmpty());
+
+        defaultAddressBook.removePerson(aliceBetsy);
+        assertEquals(Arrays.asList(bobWithAlicePhone), defaultAddressBook.getPersonsWithPhone("91235468"));
+    }
+
+    @Test
+    public void getPersonsWithPhoneStartingWith_afterChanges_returnsMatchesInPhoneOrder() throws Exception {
+        defaultAddressBook.addPerson(charlieDouglas);
+        defaultAddressBook.addPerson(davidElliot);
+
+        // 91235468 (Alice), 94321500 (Bob), 98751365 (Charlie)
+        assertEquals(Arrays.asList(aliceBetsy, bobChaplin, charlieDouglas),
+                defaultAddressBook.getPersonsWithPhoneStartingWith("9"));
+        assertEquals(Arrays.asList(aliceBetsy), defaultAddressBook.getPersonsWithPhoneStartingWith("9123"));
+        assertEquals(Arrays.asList(davidElliot), defaultAddressBook.getPersonsWithPhoneStartingWith("84512575"));
+        assertTrue(defaultAddressBook.getPersonsWithPhoneStartingWith("7").isEmpty());
+        assertTrue(defaultAddressBook.getPersonsWithPhoneStartingWith("9124").isEmpty());
+
+        // removing a number merges the remaining branches, which must still be found by prefix
+        defaultAddressBook.removePerson(bobChaplin);
+        defaultAddressBook.removePerson(aliceBetsy);
+        assertEquals(Arrays.asList(charlieDouglas), defaultAddressBook.getPersonsWithPhoneStartingWith("98"));
+        assertEquals(Arrays.asList(charlieDouglas), defaultAddressBook.getPersonsWithPhone("98751365"));
+
+        defaultAddressBook.clear();
+        assertTrue(defaultAddressBook.getPersonsWithPhoneStartingWith("").isEmpty());
+    }
+
+    @Test
+    public void getPersonsWithEmailDomain_afterChanges_returnsMatchesInAddressBookOrder() throws Exception {
+        Person bobAtHackers = new Person(bobChaplin.getName(), bobChaplin.getPhone(),
+                                         new Email("bob@NUSHackers.org", false), bobChaplin.getAddress(),
+                                         new UniqueTagList());
+        defaultAddressBook.removePerson(bobChaplin);
+        defaultAddressBook.addPerson(charlieDouglas);
+        defaultAddressBook.addPerson(bobAtHackers);
+
+        // domains match regardless of case
+        assertEquals(Arrays.asList(aliceBetsy, bobAtHackers),
+                defaultAddressBook.getPersonsWithEmailDomain(Arrays.asList("nushackers.org")));
+        assertEquals(Arrays.asList(aliceBetsy, charlieDouglas, bobAtHackers),
+                defaultAddressBook.getPersonsWithEmailDomain(Arrays.asList("nusgdg.org", "NUSHACKERS.ORG")));
+        assertTrue(defaultAddressBook.getPersonsWithEmailDomain(Arrays.asList("nusgreyhats.org")).isEmpty());
+        assertTrue(defaultAddressBook.getPersonsWithEmailDomain(Arrays.asList("hackers.org")).isEmpty());
+    }
+
+    @Test
+    public void getPersonsWithEmailDomain_personRemovedFromLargeDomain_othersRemainInOrder() throws Exception {
+        List<ReadOnlyPerson> hackers = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            Person hacker = new Person(new Name("Hacker"), new Phone(String.valueOf(i), false),
+                                       new Email("hacker" + i + "@nushackers.org", false),
+                                       new Address("Computing Drive", false), new UniqueTagList());
+            emptyAddressBook.addPerson(hacker);
+            hackers.add(hacker);
+        }
+
+        emptyAddressBook.removePerson(new Person(hackers.get(567)));
+        emptyAddressBook.removePerson(hackers.get(0));
+        emptyAddressBook.removePerson(hackers.get(999));
+        List<ReadOnlyPerson> expected = new ArrayList<>(hackers.subList(1, 999));
+        expected.remove(566);
+
+        assertEquals(expected, emptyAddressBook.getPersonsWithEmailDomain(Arrays.asList("nushackers.org")));
+        assertEquals(Integer.valueOf(997), emptyAddressBook.countPersonsByEmailDomain().get("nushackers.org"));
+    }
+
+    @Test
+    public void countPersonsByEmailDomain_afterChanges_countsEveryDomainInOrder() throws Exception {
+        Person davidAtHackers = new Person(davidElliot.getName(), davidElliot.getPhone(),
+                                           new Email("david@nushackers.org", false), davidElliot.getAddress(),
+                                           new UniqueTagList());
+        defaultAddressBook.addPerson(charlieDouglas);
+        defaultAddressBook.addPerson(davidAtHackers);
+        defaultAddressBook.removePerson(bobChaplin);
+
+        Map<String, Integer> expected = new LinkedHashMap<>();
+        expected.put("nusgdg.org", 1);
+        expected.put("nushackers.org", 2);
+        assertEquals(new ArrayList<>(expected.entrySet()),
+                new ArrayList<>(defaultAddressBook.countPersonsByEmailDomain().entrySet()));
+
+        defaultAddressBook.clear();
+        assertTrue(defaultAddressBook.countPersonsByEmailDomain().isEmpty());
+    }
+
+    @Test
+    public void getPersonsWithAnyTag_afterChanges_returnsMatchesInAddressBookOrder() throws Exception {
+        defaultAddressBook.addPerson(charlieDouglas);
+        defaultAddressBook.addPerson(davidElliot);
+        defaultAddressBook.removePerson(aliceBetsy);
+
+        List<ReadOnlyPerson> found = defaultAddressBook.getPersonsWithAnyTag(
+                Arrays.asList(tagPrizeWinner, tagMathematician, tagEconomist));
+
+        assertEquals(Arrays.asList(bobChaplin, davidElliot), found);
+    }
+
+    @Test
+    public void getPersonsWithAllTags_returnsPersonsHavingEveryTag() throws Exception {
+        defaultAddressBook.addPerson(davidElliot);
+
+        assertEquals(Arrays.asList(davidElliot),
+                defaultAddressBook.getPersonsWithAllTags(Arrays.asList(tagEconomist, tagPrizeWinner)));
+        assertEquals(Arrays.asList(aliceBetsy, bobChaplin),
+                defaultAddressBook.getPersonsWithAllTags(Arrays.asList(tagMathematician)));
+        assertTrue(defaultAddressBook.getPersonsWithAllTags(Arrays.asList(tagMathematician, tagEconomist)).isEmpty());
+        assertTrue(defaultAddressBook.getPersonsWithAllTags(Arrays.asList(tagScientist)).isEmpty());
+    }
+
+    @Test
+    public void getPersonsWithAllTags_tagsSpanningSeveralBitsetWords_returnsPersonsHavingEveryTag() throws Exception {
+        List<Tag> manyTags = new ArrayList<>();
+        for (int i = 0; i < 130; i++) {
+            manyTags.add(new Tag("bulk" + i));
+        }
+        Person eveFrancis = new Person(new Name("Eve Francis"),
+                                       new Phone("81234567", false),
+                                       new Email("eve@nus.edu.sg", false),
+                                       new Address("12 Kent Ridge", false),
+                                       new UniqueTagList(manyTags));
+        defaultAddressBook.addPerson(eveFrancis);
+
+        assertEquals(Arrays.asList(eveFrancis), defaultAddressBook.getPersonsWithAllTags(manyTags));
+        assertEquals(Arrays.asList(eveFrancis),
+                defaultAddressBook.getPersonsWithAllTags(Arrays.asList(manyTags.get(0), manyTags.get(129))));
+        assertTrue(defaultAddressBook.getPersonsWithAllTags(Arrays.asList(manyTags.get(129), tagMathematician))
+                .isEmpty());
+    }
+
+    @Test
+    public void getModificationCount_changesOnlyWhenAddressBookChanges() throws Exception {
+        long modificationCount = defaultAddressBook.getModificationCount();
+
+        defaultAddressBook.containsPerson(aliceBetsy);
+        defaultAddressBook.getAllPersons();
+        try {
+            defaultAddressBook.addPerson(aliceBetsy);
+        } catch (DuplicatePersonException e) {
+            // ignore expected exception
+        }
+        assertEquals(modificationCount, defaultAddressBook.getModificationCount());
+
+        defaultAddressBook.removePerson(aliceBetsy);
+        assertTrue(defaultAddressBook.getModificationCount() != modificationCount);
+    }
+
     /**
-     * Returns true if the given Tag object is found in the tag list of the given AddressBook.
+     * Returns true if the tag list of the given AddressBook holds the interned object of the given Tag.
+     * Tags are compared by reference against the object that {@link TagDictionary} shares for the tag's id,
+     * so an equal but separately created tag in the list does not count.
      */
-    private boolean isTagObjectInAddressBookList(Tag tagToCheck, AddressBook addressBook) {
+    private boolean isInternedTagInAddressBookList(Tag tagToCheck, AddressBook addressBook) {
+        final Tag internedTag = TagDictionary.getTag(tagToCheck.id);
         for (Tag tag : addressBook.getAllTags()) {
-            if (tag == tagToCheck) {
+            if (tag == internedTag) {
                 return true;
             }
         }
@@ -0,0 +1,177 @@
+package seedu.addressbook.data.person;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.addressbook.data.person.UniquePersonList.DuplicatePersonException;
+import seedu.addressbook.data.person.UniquePersonList.PersonNotFoundException;
+import seedu.addressbook.data.tag.Tag;
+import seedu.addressbook.data.tag.UniqueTagList;
+
+public class UniquePersonListTest {
+    private Person aliceBetsy;
+    private Person bobChaplin;
+    private Person charlieDouglas;
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Before
+    public void setUp() throws Exception {
+        aliceBetsy     = new Person(new Name("Alice Betsy"),
+                                    new Phone("91235468", true),
+                                    new Email("alice@nushackers.org", false),
+                                    new Address("8 Computing Drive, Singapore", true),
+                                    new UniqueTagList(new Tag("mathematician")));
+
+        bobChaplin     = new Person(new Name("Bob Chaplin"),
+                                    new Phone("94321500", false),
+                                    new Email("bob@nusgreyhats.org", true),
+                                    new Address("9 Computing Drive", false),
+                                    new UniqueTagList());
+
+        charlieDouglas = new Person(new Name("Charlie Douglas"),
+                                    new Phone("98751365", false),
+                                    new Email("charlie@nusgdg.org", false),
+                                    new Address("10 Science Drive", false),
+                                    new UniqueTagList(new Tag("scientist"), new Tag("mathematician")));
+    }
+
+    @Test
+    public void addAndRead_sameDataAsAdded() throws Exception {
+        UniquePersonList persons = new UniquePersonList(aliceBetsy, bobChaplin);
+
+        assertEquals(Arrays.asList(aliceBetsy, bobChaplin), persons.immutableListView());
+        assertEquals(Arrays.asList(aliceBetsy, bobChaplin), toList(persons));
+        ReadOnlyPerson alice = persons.immutableListView().get(0);
+        assertTrue(alice.getPhone().isPrivate());
+        assertFalse(alice.getEmail().isPrivate());
+        assertTrue(alice.getAddress().isPrivate());
+        assertEquals(aliceBetsy.getAsTextHidePrivate(), alice.getAsTextHidePrivate());
+        assertEquals(aliceBetsy.hashCode(), alice.hashCode());
+    }
+
+    @Test
+    public void containsAndRemove_matchBySamePerson() throws Exception {
+        UniquePersonList persons = new UniquePersonList(aliceBetsy, bobChaplin, charlieDouglas);
+
+        assertTrue(persons.contains(new Person(bobChaplin)));
+        persons.remove(bobChaplin);
+
+        assertFalse(persons.contains(bobChaplin));
+        assertTrue(persons.contains(charlieDouglas));
+        assertEquals(Arrays.asList(aliceBetsy, charlieDouglas), toList(persons));
+    }
+
+    @Test
+    public void addSamePerson_throwsDuplicatePersonException() throws Exception {
+        UniquePersonList persons = new UniquePersonList(aliceBetsy);
+
+        thrown.expect(DuplicatePersonException.class);
+        persons.add(new Person(aliceBetsy));
+    }
+
+    @Test
+    public void removePersonWithTagsInOtherOrder_removesPerson() throws Exception {
+        UniquePersonList persons = new UniquePersonList(aliceBetsy, charlieDouglas);
+        Person charlieWithTagsReordered = new Person(charlieDouglas.getName(), charlieDouglas.getPhone(),
+                charlieDouglas.getEmail(), charlieDouglas.getAddress(),
+                new UniqueTagList(new Tag("mathematician"), new Tag("scientist")));
+
+        assertEquals(charlieDouglas, charlieWithTagsReordered);
+        assertEquals(charlieDouglas.hashCode(), charlieWithTagsReordered.hashCode());
+        assertTrue(persons.remove(charlieWithTagsReordered) == charlieDouglas);
+        assertEquals(Arrays.asList(aliceBetsy), toList(persons));
+    }
+
+    @Test
+    public void removePersonWithOtherDetails_throwsPersonNotFoundException() throws Exception {
+        UniquePersonList persons = new UniquePersonList(aliceBetsy);
+        Person aliceWithOtherAddress = new Person(aliceBetsy.getName(), aliceBetsy.getPhone(),
+                aliceBetsy.getEmail(), new Address("1 Other Road", false), new UniqueTagList());
+
+        thrown.expect(PersonNotFoundException.class);
+        persons.remove(aliceWithOtherAddress);
+    }
+
+    @Test
+    public void changesAfterCopyOrRead_notVisibleInCopyOrReadPersons() throws Exception {
+        UniquePersonList persons = new UniquePersonList(aliceBetsy, bobChaplin);
+        UniquePersonList copy = new UniquePersonList(persons);
+        ReadOnlyPerson firstBeforeChanges = persons.immutableListView().get(0);
+
+        persons.remove(aliceBetsy);
+        persons.add(charlieDouglas);
+        copy.add(charlieDouglas);
+
+        assertEquals(aliceBetsy, firstBeforeChanges);
+        assertEquals(Arrays.asList(bobChaplin, charlieDouglas), toList(persons));
+        assertEquals(Arrays.asList(aliceBetsy, bobChaplin, charlieDouglas), toList(copy));
+    }
+
+    @Test
+    public void contains_afterCopyAndChanges_eachListSeesOnlyItsOwnPersons() throws Exception {
+        UniquePersonList persons = new UniquePersonList(aliceBetsy, bobChaplin);
+        UniquePersonList copy = new UniquePersonList(persons);
+
+        persons.remove(aliceBetsy);
+        copy.add(charlieDouglas);
+        UniquePersonList copyOfCopy = new UniquePersonList(copy);
+        copy.remove(bobChaplin);
+
+        assertFalse(persons.contains(aliceBetsy));
+        assertTrue(persons.contains(bobChaplin));
+        assertFalse(persons.contains(charlieDouglas));
+        assertTrue(copy.contains(aliceBetsy));
+        assertFalse(copy.contains(bobChaplin));
+        assertTrue(copy.contains(charlieDouglas));
+        assertTrue(copyOfCopy.contains(aliceBetsy));
+        assertTrue(copyOfCopy.contains(bobChaplin));
+        assertTrue(copyOfCopy.contains(charlieDouglas));
+    }
+
+    @Test
+    public void remove_equalCopy_returnsPersonHeldByList() throws Exception {
+        UniquePersonList persons = new UniquePersonList(aliceBetsy, bobChaplin);
+
+        assertTrue(persons.remove(new Person(bobChaplin)) == bobChaplin);
+    }
+
+    @Test
+    public void manyPersons_allFoundAfterGrowingAndRemoving() throws Exception {
+        UniquePersonList persons = new UniquePersonList();
+        List<Person> added = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            Person person = new Person(new Name("Person"), new Phone(String.valueOf(90000000 + i), false),
+                    new Email("person@example.com", false), new Address("Somewhere", false), new UniqueTagList());
+            persons.add(person);
+            added.add(person);
+        }
+        for (int i = 0; i < 100; i += 2) {
+            persons.remove(added.get(i));
+        }
+
+        assertEquals(50, persons.immutableListView().size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i % 2 == 1, persons.contains(added.get(i)));
+        }
+    }
+
+    private static List<Person> toList(UniquePersonList persons) {
+        List<Person> list = new ArrayList<>();
+        for (Person person : persons) {
+            list.add(person);
+        }
+        return list;
+    }
+}
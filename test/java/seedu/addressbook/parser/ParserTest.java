@@ -1,11 +1,13 @@
 package seedu.addressbook.parser;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static seedu.addressbook.common.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.addressbook.common.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -13,14 +15,22 @@ import org.junit.Before;
 import org.junit.Test;
 
 import seedu.addressbook.commands.AddCommand;
+import seedu.addressbook.commands.AutocompleteCommand;
 import seedu.addressbook.commands.ClearCommand;
 import seedu.addressbook.commands.Command;
 import seedu.addressbook.commands.DeleteCommand;
 import seedu.addressbook.commands.ExitCommand;
+import seedu.addressbook.commands.ExportCommand;
 import seedu.addressbook.commands.FindCommand;
+import seedu.addressbook.commands.FindDomainCommand;
+import seedu.addressbook.commands.FindPhoneCommand;
+import seedu.addressbook.commands.FindTagCommand;
+import seedu.addressbook.commands.FuzzyFindCommand;
 import seedu.addressbook.commands.HelpCommand;
+import seedu.addressbook.commands.ImportCommand;
 import seedu.addressbook.commands.IncorrectCommand;
 import seedu.addressbook.commands.ListCommand;
+import seedu.addressbook.commands.ListDomainsCommand;
 import seedu.addressbook.commands.ViewAllCommand;
 import seedu.addressbook.commands.ViewCommand;
 import seedu.addressbook.data.exception.IllegalValueException;
@@ -82,6 +92,12 @@ public class ParserTest {
         parseAndAssertCommandType(input, ListCommand.class);
     }
 
+    @Test
+    public void parse_listDomainsCommand_parsedCorrectly() {
+        final String input = "listdomains";
+        parseAndAssertCommandType(input, ListDomainsCommand.class);
+    }
+
     @Test
     public void parse_exitCommand_parsedCorrectly() {
         final String input = "exit";
@@ -168,7 +184,8 @@ public class ParserTest {
         // no keywords
         final String[] inputs = {
             "find",
-            "find "
+            "find ",
+            "find i/"
         };
         final String resultMessage =
                 String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE);
@@ -184,6 +201,23 @@ public class ParserTest {
         final FindCommand result =
                 parseAndAssertCommandType(input, FindCommand.class);
         assertEquals(keySet, result.getKeywords());
+        assertFalse(result.isCaseAndAccentIgnored());
+    }
+
+    @Test
+    public void parse_findCommandCaseAndAccentIgnored_parsedCorrectly() {
+        final Set<String> keySet = new HashSet<>(Arrays.asList("key1", "KEY2"));
+
+        final FindCommand result =
+                parseAndAssertCommandType("find i/ key1 KEY2", FindCommand.class);
+        assertEquals(keySet, result.getKeywords());
+        assertTrue(result.isCaseAndAccentIgnored());
+
+        // i/ must be separated from the keywords, otherwise it is part of the first keyword
+        final FindCommand keywordResult =
+                parseAndAssertCommandType("find i/key1", FindCommand.class);
+        assertEquals(Collections.singleton("i/key1"), keywordResult.getKeywords());
+        assertFalse(keywordResult.isCaseAndAccentIgnored());
     }
 
     @Test
@@ -198,6 +232,206 @@ public class ParserTest {
         assertEquals(keySet, result.getKeywords());
     }
 
+    /*
+     * Tests for fuzzy find persons by keyword in name command =============================================
+     */
+
+    @Test
+    public void parse_fuzzyFindCommandInvalidArgs_errorMessage() {
+        // no keywords
+        final String[] inputs = {
+            "fuzzyfind",
+            "fuzzyfind "
+        };
+        final String resultMessage =
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FuzzyFindCommand.MESSAGE_USAGE);
+        parseAndAssertIncorrectWithMessage(resultMessage, inputs);
+    }
+
+    @Test
+    public void parse_fuzzyFindCommandValidArgs_parsedCorrectly() {
+        final Set<String> keySet = new HashSet<>(Arrays.asList("Jhon", "Betsi"));
+
+        final FuzzyFindCommand result =
+                parseAndAssertCommandType("fuzzyfind Jhon  Betsi Jhon", FuzzyFindCommand.class);
+        assertEquals(keySet, result.getKeywords());
+    }
+
+    /*
+     * Tests for find persons by tag command =====================================================================
+     */
+
+    @Test
+    public void parse_findTagCommandInvalidArgs_errorMessage() {
+        // no tags
+        final String[] inputs = {
+            "findtag",
+            "findtag ",
+            "findtag all/",
+            "findtag friends t/colleagues"
+        };
+        final String resultMessage =
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindTagCommand.MESSAGE_USAGE);
+        parseAndAssertIncorrectWithMessage(resultMessage, inputs);
+    }
+
+    @Test
+    public void parse_findTagCommandInvalidTagName_errorMessage() {
+        parseAndAssertIncorrectWithMessage(Tag.MESSAGE_TAG_CONSTRAINTS, "findtag friends best-friends");
+    }
+
+    @Test
+    public void parse_findTagCommandValidArgs_parsedCorrectly() throws Exception {
+        final Set<String> tagSet = new HashSet<>(Arrays.asList("friends", "colleagues"));
+
+        final FindTagCommand anyResult =
+                parseAndAssertCommandType("findtag friends colleagues friends", FindTagCommand.class);
+        assertEquals(tagSet, anyResult.getTagNames());
+        assertFalse(anyResult.isAllTagsRequired());
+
+        final FindTagCommand allResult =
+                parseAndAssertCommandType("findtag all/ friends colleagues", FindTagCommand.class);
+        assertEquals(tagSet, allResult.getTagNames());
+        assertTrue(allResult.isAllTagsRequired());
+    }
+
+    /*
+     * Tests for find persons by phone number command ============================================================
+     */
+
+    @Test
+    public void parse_findPhoneCommandInvalidArgs_errorMessage() {
+        final String[] inputs = {
+            "findphone",
+            "findphone ",
+            "findphone prefix/",
+            "findphone +-()",
+            "findphone 9123 abc",
+            "findphone prefix/9123"
+        };
+        final String resultMessage =
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindPhoneCommand.MESSAGE_USAGE);
+        parseAndAssertIncorrectWithMessage(resultMessage, inputs);
+    }
+
+    @Test
+    public void parse_findPhoneCommandValidArgs_parsedCorrectly() {
+        final FindPhoneCommand exactResult =
+                parseAndAssertCommandType("findphone +65 (9123) 45-67", FindPhoneCommand.class);
+        assertEquals("6591234567", exactResult.getNumber());
+        assertFalse(exactResult.isPrefix());
+
+        final FindPhoneCommand prefixResult =
+                parseAndAssertCommandType("findphone prefix/ 065", FindPhoneCommand.class);
+        assertEquals("065", prefixResult.getNumber());
+        assertTrue(prefixResult.isPrefix());
+    }
+
+    /*
+     * Tests for find persons by email domain command ============================================================
+     */
+
+    @Test
+    public void parse_findDomainCommandInvalidArgs_errorMessage() {
+        final String[] inputs = {
+            "finddomain",
+            "finddomain ",
+            "finddomain alice@gmail.com",
+            "finddomain nus.edu.sg gmail/com"
+        };
+        final String resultMessage =
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindDomainCommand.MESSAGE_USAGE);
+        parseAndAssertIncorrectWithMessage(resultMessage, inputs);
+    }
+
+    @Test
+    public void parse_findDomainCommandValidArgs_parsedCorrectly() {
+        final Set<String> domainSet = new HashSet<>(Arrays.asList("nus.edu.sg", "gmail.com"));
+
+        final FindDomainCommand result =
+                parseAndAssertCommandType("finddomain nus.edu.sg  gmail.com nus.edu.sg", FindDomainCommand.class);
+        assertEquals(domainSet, result.getDomains());
+    }
+
+    /*
+     * Tests for import command ==================================================================================
+     */
+
+    @Test
+    public void parse_importCommandInvalidArgs_errorMessage() {
+        final String[] inputs = {
+            "import",
+            "import ",
+            "import contacts.txt",
+            "import .csv"
+        };
+        final String resultMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE);
+        parseAndAssertIncorrectWithMessage(resultMessage, inputs);
+    }
+
+    @Test
+    public void parse_importCommandValidArgs_parsedCorrectly() {
+        final ImportCommand result =
+                parseAndAssertCommandType("import  data/my contacts.csv ", ImportCommand.class);
+        assertEquals("data/my contacts.csv", result.getFilePath());
+    }
+
+    /*
+     * Tests for export command ==================================================================================
+     */
+
+    @Test
+    public void parse_exportCommandInvalidArgs_errorMessage() {
+        final String[] inputs = {
+            "export",
+            "export ",
+            "export contacts.json",
+            "export .jsonl"
+        };
+        final String resultMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE);
+        parseAndAssertIncorrectWithMessage(resultMessage, inputs);
+    }
+
+    @Test
+    public void parse_exportCommandValidArgs_parsedCorrectly() {
+        assertEquals("contacts.csv",
+                parseAndAssertCommandType("export contacts.csv", ExportCommand.class).getFilePath());
+        assertEquals("data/my contacts.jsonl",
+                parseAndAssertCommandType("export data/my contacts.jsonl ", ExportCommand.class).getFilePath());
+    }
+
+    /*
+     * Tests for autocomplete command ============================================================================
+     */
+
+    @Test
+    public void parse_autocompleteCommandInvalidArgs_errorMessage() {
+        final String[] inputs = {
+            "autocomplete",
+            "autocomplete ",
+            "autocomplete Al 0",
+            "autocomplete Al -1",
+            "autocomplete Al 5 6",
+            "autocomplete Al 9999999999"
+        };
+        final String resultMessage =
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, AutocompleteCommand.MESSAGE_USAGE);
+        parseAndAssertIncorrectWithMessage(resultMessage, inputs);
+    }
+
+    @Test
+    public void parse_autocompleteCommandValidArgs_parsedCorrectly() {
+        final AutocompleteCommand defaultLimitResult =
+                parseAndAssertCommandType("autocomplete Al", AutocompleteCommand.class);
+        assertEquals("Al", defaultLimitResult.getPrefix());
+        assertEquals(AutocompleteCommand.DEFAULT_LIMIT, defaultLimitResult.getLimit());
+
+        final AutocompleteCommand limitResult =
+                parseAndAssertCommandType("autocomplete  Al  3 ", AutocompleteCommand.class);
+        assertEquals("Al", limitResult.getPrefix());
+        assertEquals(3, limitResult.getLimit());
+    }
+
     /*
      * Tests for add person command ==============================================================================
      */
@@ -0,0 +1,49 @@
+package seedu.addressbook.storage;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.addressbook.util.TestUtil.assertTextFilesEqual;
+
+import java.nio.file.Paths;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.person.Person;
+import seedu.addressbook.util.TypicalPersons;
+
+public class AsyncStorageWriterTest {
+    private static final String TEST_DATA_FOLDER = "test/data/StorageFileTest";
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void close_afterManySaves_allChangesWritten() throws Exception {
+        StorageFile storage = getTempStorage();
+        AddressBook ab = storage.load();
+        AsyncStorageWriter writer = new AsyncStorageWriter(storage, Long.MAX_VALUE, Integer.MAX_VALUE);
+        for (Person person : new TypicalPersons().getTypicalPersons()) {
+            ab.addPerson(new Person(person));
+            writer.save(ab);
+        }
+        writer.close();
+
+        assertEquals(ab.getAllPersons(), getTempStorage().load().getAllPersons());
+    }
+
+    @Test
+    public void flush_snapshotSave_writtenBeforeReturning() throws Exception {
+        StorageFile storage = getTempStorage();
+        AsyncStorageWriter writer = new AsyncStorageWriter(storage);
+        writer.save(new StorageFile(TEST_DATA_FOLDER + "/ValidData.xml").load());
+        writer.flush();
+
+        assertTextFilesEqual(Paths.get(storage.getPath()), Paths.get(TEST_DATA_FOLDER, "ValidData.xml"));
+    }
+
+    private StorageFile getTempStorage() throws Exception {
+        return new StorageFile(testFolder.getRoot().getPath() + "/" + "temp.xml");
+    }
+}
@@ -0,0 +1,79 @@
+package seedu.addressbook.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.person.Person;
+import seedu.addressbook.util.TypicalPersons;
+
+public class CheckpointedSaverTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void recordChanges_noCheckpoints_savedOnceByFinalSave() throws Exception {
+        StorageFile storage = getTempStorage();
+        AddressBook ab = storage.load();
+        AsyncStorageWriter writer = new AsyncStorageWriter(storage);
+        CheckpointedSaver saver = new CheckpointedSaver(writer, CheckpointedSaver.NO_CHECKPOINTS);
+
+        for (Person person : new TypicalPersons().getTypicalPersons()) {
+            ab.addPerson(new Person(person));
+            saver.recordChanges(ab, 1);
+        }
+        writer.flush();
+        assertEquals(0, saver.getSaveCount());
+        assertFalse(Files.exists(Paths.get(storage.getPath())));
+
+        saver.saveUnsavedChanges(ab);
+        writer.close();
+        assertEquals(1, saver.getSaveCount());
+        assertEquals(ab.getAllPersons(), getTempStorage().load().getAllPersons());
+    }
+
+    @Test
+    public void recordChanges_checkpointInterval_savedWhenChangesReachInterval() throws Exception {
+        StorageFile storage = getTempStorage();
+        AddressBook ab = storage.load();
+        AsyncStorageWriter writer = new AsyncStorageWriter(storage);
+        CheckpointedSaver saver = new CheckpointedSaver(writer, 3);
+        Person[] persons = new TypicalPersons().getTypicalPersons();
+
+        ab.addPerson(new Person(persons[0]));
+        saver.recordChanges(ab, 1);
+        ab.addPerson(new Person(persons[1]));
+        saver.recordChanges(ab, 1);
+        assertEquals(0, saver.getSaveCount());
+
+        // a single command making several changes, such as an import, counts each of them
+        ab.addPerson(new Person(persons[2]));
+        ab.addPerson(new Person(persons[3]));
+        saver.recordChanges(ab, 2);
+        assertEquals(1, saver.getSaveCount());
+        writer.flush();
+        assertEquals(ab.getAllPersons(), getTempStorage().load().getAllPersons());
+
+        saver.saveUnsavedChanges(ab);
+        assertEquals(1, saver.getSaveCount()); // nothing left to save
+
+        ab.removePerson(persons[0]);
+        saver.recordChanges(ab, 1);
+        saver.saveUnsavedChanges(ab);
+        writer.close();
+        assertEquals(2, saver.getSaveCount());
+        assertEquals(ab.getAllPersons(), getTempStorage().load().getAllPersons());
+    }
+
+    private StorageFile getTempStorage() throws Exception {
+        return new StorageFile(testFolder.getRoot().getPath() + "/" + "temp.xml");
+    }
+}
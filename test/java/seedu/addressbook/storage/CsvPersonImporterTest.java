@@ -0,0 +1,181 @@
+package seedu.addressbook.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayOutputStream;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.person.Address;
+import seedu.addressbook.data.person.Email;
+import seedu.addressbook.data.person.Name;
+import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.Phone;
+import seedu.addressbook.data.person.ReadOnlyPerson;
+import seedu.addressbook.data.tag.Tag;
+import seedu.addressbook.data.tag.TagDictionary;
+import seedu.addressbook.data.tag.UniqueTagList;
+import seedu.addressbook.storage.CsvPersonImporter.PartialImportException;
+import seedu.addressbook.storage.CsvPersonImporter.RejectedRow;
+import seedu.addressbook.storage.StorageFile.StorageOperationException;
+
+public class CsvPersonImporterTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void importInto_validRows_personsAddedInOrder() throws Exception {
+        final AddressBook addressBook = new AddressBook();
+        final CsvPersonImporter.Result result = CsvPersonImporter.importInto(writeCsv(
+                CsvPersonFormat.HEADER,
+                "John Doe,98765432,false,johnd@gmail.com,,\"311, Clementi Ave 2, #02-25\",true,friends owesMoney",
+                "",
+                "Betsy Crowe,1234567,TRUE,betsycrowe@gmail.com,false,\"Newgate \"\"Prison\"\"\",false,"),
+                addressBook);
+
+        assertEquals(2, result.addedCount);
+        assertTrue(result.rejectedRows.isEmpty());
+        final Person john = new Person(new Name("John Doe"), new Phone("98765432", false),
+                new Email("johnd@gmail.com", false), new Address("311, Clementi Ave 2, #02-25", true),
+                new UniqueTagList(new Tag("friends"), new Tag("owesMoney")));
+        final Person betsy = new Person(new Name("Betsy Crowe"), new Phone("1234567", true),
+                new Email("betsycrowe@gmail.com", false), new Address("Newgate \"Prison\"", false),
+                new UniqueTagList());
+        final List<ReadOnlyPerson> imported = addressBook.getAllPersons().immutableListView();
+        assertEquals(Arrays.asList(john, betsy), imported);
+        assertTrue(imported.get(0).getAddress().isPrivate());
+        assertTrue(imported.get(1).getPhone().isPrivate());
+        assertEquals(john.getTags(), imported.get(0).getTags());
+    }
+
+    @Test
+    public void importInto_invalidAndDuplicateRows_rejectedWithLineNumbers() throws Exception {
+        final AddressBook addressBook = new AddressBook();
+        final CsvPersonImporter.Result result = CsvPersonImporter.importInto(writeCsv(
+                "John Doe,98765432,,johnd@gmail.com,,Clementi,,",
+                "John Doe,98765432,,other@gmail.com,,Jurong,,",
+                "John D0e,98765432,,johnd@gmail.com,,Clementi,,",
+                "John Doe,98765432,,johnd@gmail.com,,Clementi",
+                "John Doe,12345,maybe,johnd@gmail.com,,Clementi,,",
+                "John Doe,12345,,johnd@gmail.com,,\"Clementi,,",
+                "John Doe,12345,,johnd@gmail.com,,\"Clementi\"Ave,,",
+                "John Doe,12345,,johnd@gmail.com,,Clementi,,best-friends",
+                "Betsy Crowe,12345,,betsy@gmail.com,,Newgate,,"),
+                addressBook);
+
+        assertEquals(2, result.addedCount);
+        assertEquals(Arrays.asList(2L, 3L, 4L, 5L, 6L, 7L, 8L), getLineNumbers(result.rejectedRows));
+        assertEquals(CsvPersonImporter.MESSAGE_DUPLICATE_PERSON, result.rejectedRows.get(0).reason);
+        assertEquals(Name.MESSAGE_NAME_CONSTRAINTS, result.rejectedRows.get(1).reason);
+        assertEquals(String.format(CsvPersonFormat.MESSAGE_WRONG_FIELD_COUNT, 8, 6), result.rejectedRows.get(2).reason);
+        assertEquals(CsvPersonFormat.MESSAGE_INVALID_PRIVACY_FLAG, result.rejectedRows.get(3).reason);
+        assertEquals(CsvPersonFormat.MESSAGE_UNCLOSED_QUOTE, result.rejectedRows.get(4).reason);
+        assertEquals(CsvPersonFormat.MESSAGE_TEXT_AFTER_QUOTE, result.rejectedRows.get(5).reason);
+        assertEquals(Tag.MESSAGE_TAG_CONSTRAINTS, result.rejectedRows.get(6).reason);
+    }
+
+    @Test
+    public void importInto_rowsSpanningSeveralBatches_allRowsHandledInOrder() throws Exception {
+        final List<String> lines = new ArrayList<>();
+        final int rowCount = CsvPersonImporter.BATCH_SIZE * 3 + 7;
+        for (int i = 0; i < rowCount; i++) {
+            // every 1000th row is invalid, including rows at the edges of batches
+            final boolean isInvalid = i % 1000 == 999 || i == CsvPersonImporter.BATCH_SIZE;
+            lines.add("John Doe," + (isInvalid ? "x" : "") + i + ",,johnd@gmail.com,,Clementi,,");
+        }
+
+        final AddressBook addressBook = new AddressBook();
+        final CsvPersonImporter.Result result =
+                CsvPersonImporter.importInto(writeCsv(lines.toArray(new String[0])), addressBook);
+
+        final List<Long> expectedRejectedLines = new ArrayList<>();
+        for (int i = 0; i < rowCount; i++) {
+            if (i % 1000 == 999 || i == CsvPersonImporter.BATCH_SIZE) {
+                expectedRejectedLines.add((long) i + 1);
+            }
+        }
+        assertEquals(expectedRejectedLines, getLineNumbers(result.rejectedRows));
+        assertEquals(rowCount - expectedRejectedLines.size(), result.addedCount);
+        final List<ReadOnlyPerson> imported = addressBook.getAllPersons().immutableListView();
+        assertEquals("0", imported.get(0).getPhone().value);
+        assertEquals(String.valueOf(rowCount - 1), imported.get(imported.size() - 1).getPhone().value);
+        assertFalse(addressBook.getPersonsWithPhone(String.valueOf(CsvPersonImporter.BATCH_SIZE + 1)).isEmpty());
+    }
+
+    @Test
+    public void importInto_rejectedRows_tagsNotInterned() throws Exception {
+        final CsvPersonImporter.Result result = CsvPersonImporter.importInto(writeCsv(
+                "John Doe,x98765432,,johnd@gmail.com,,Clementi,,csvRejectedPhoneTag",
+                "John Doe,98765432,,johnd@gmail.com,,Clementi,,csvRejectedOtherTag best-friends"),
+                new AddressBook());
+
+        assertEquals(Arrays.asList(1L, 2L), getLineNumbers(result.rejectedRows));
+        assertFalse(TagDictionary.find("csvRejectedPhoneTag").isPresent());
+        assertFalse(TagDictionary.find("csvRejectedOtherTag").isPresent());
+    }
+
+    @Test
+    public void importInto_unreadableBytesAfterSomeBatches_rowsBeforeErrorImported() throws Exception {
+        final ByteArrayOutputStream content = new ByteArrayOutputStream();
+        final int validRowCount = CsvPersonImporter.BATCH_SIZE * 2;
+        for (int i = 0; i < validRowCount; i++) {
+            final String row = (i == 1 ? "John D0e," : "John Doe,") + i + ",,johnd@gmail.com,,Clementi,,\n";
+            content.write(row.getBytes(StandardCharsets.UTF_8));
+        }
+        content.write(new byte[] {(byte) 0xff, (byte) 0xfe, '\n'}); // not valid UTF-8
+        final Path file = testFolder.newFile("persons.csv").toPath();
+        Files.write(file, content.toByteArray());
+
+        final AddressBook addressBook = new AddressBook();
+        try {
+            CsvPersonImporter.importInto(file, addressBook);
+            fail("Expected PartialImportException");
+        } catch (PartialImportException pie) {
+            final CsvPersonImporter.Result partialResult = pie.partialResult;
+            // the reader decodes ahead, so some rows just before the bad bytes may be lost with them
+            assertTrue(partialResult.addedCount >= CsvPersonImporter.BATCH_SIZE);
+            assertEquals(partialResult.addedCount, addressBook.getAllPersons().immutableListView().size());
+            assertEquals(Arrays.asList(2L), getLineNumbers(partialResult.rejectedRows));
+            assertEquals(String.format(CsvPersonImporter.MESSAGE_READ_ERROR, file, partialResult.addedCount + 1),
+                    pie.getMessage());
+        }
+    }
+
+    @Test
+    public void importInto_missingFile_exceptionThrown() throws Exception {
+        thrown.expect(StorageOperationException.class);
+        CsvPersonImporter.importInto(testFolder.getRoot().toPath().resolve("missing.csv"), new AddressBook());
+    }
+
+    private Path writeCsv(String... lines) throws Exception {
+        final Path file = testFolder.newFile("persons.csv").toPath();
+        Files.write(file, Arrays.asList(lines), StandardCharsets.UTF_8);
+        return file;
+    }
+
+    private static List<Long> getLineNumbers(List<RejectedRow> rejectedRows) {
+        final List<Long> lineNumbers = new ArrayList<>();
+        for (RejectedRow row : rejectedRows) {
+            lineNumbers.add(row.lineNumber);
+        }
+        return lineNumbers;
+    }
+}
@@ -0,0 +1,55 @@
+package seedu.addressbook.storage;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.addressbook.data.exception.IllegalValueException;
+import seedu.addressbook.storage.StorageFile.StorageOperationException;
+
+public class ParallelRecordConverterTest {
+    private static final int RECORD_COUNT = ParallelRecordConverter.SEQUENTIAL_THRESHOLD * 40;
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void convertAll_validRecords_orderPreserved() throws Exception {
+        List<Integer> records = getRecords();
+        List<String> converted = ParallelRecordConverter.convertAll(records, String::valueOf);
+
+        assertEquals(RECORD_COUNT, converted.size());
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            assertEquals(String.valueOf(i), converted.get(i));
+        }
+    }
+
+    @Test
+    public void convertAll_severalInvalidRecords_earliestErrorThrown() throws Exception {
+        List<Integer> records = getRecords();
+        thrown.expect(StorageOperationException.class);
+        thrown.expectMessage("record 1000");
+        ParallelRecordConverter.convertAll(records, record -> {
+            if (record == RECORD_COUNT - 1) {
+                throw new IllegalValueException("record " + record);
+            }
+            if (record == 1000 || record == 5000) {
+                throw new StorageOperationException("record " + record);
+            }
+            return record;
+        });
+    }
+
+    private static List<Integer> getRecords() {
+        List<Integer> records = new ArrayList<>();
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            records.add(i);
+        }
+        return records;
+    }
+}
@@ -0,0 +1,112 @@
+package seedu.addressbook.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.person.Address;
+import seedu.addressbook.data.person.Email;
+import seedu.addressbook.data.person.Name;
+import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.Phone;
+import seedu.addressbook.data.person.ReadOnlyPerson;
+import seedu.addressbook.data.tag.Tag;
+import seedu.addressbook.data.tag.UniqueTagList;
+import seedu.addressbook.storage.StorageFile.StorageOperationException;
+
+public class PersonExporterTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void exportTo_csv_writesHeaderAndQuotedFields() throws Exception {
+        final Path file = testFolder.getRoot().toPath().resolve("persons.csv");
+
+        assertEquals(2, PersonExporter.exportTo(file, getTestPersons()));
+
+        assertEquals(Arrays.asList(
+                CsvPersonFormat.HEADER,
+                "John Doe,98765432,false,johnd@gmail.com,false,\"John street, block 123, #01-01\",false,",
+                "Betsy Crowe,1234567,true,betsycrowe@gmail.com,false,\"Newgate \"\"Prison\"\"\",true,friend"),
+                Files.readAllLines(file, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void exportTo_csv_importsBackIdentically() throws Exception {
+        final Path file = testFolder.getRoot().toPath().resolve("persons.csv");
+        PersonExporter.exportTo(file, getTestPersons());
+
+        final AddressBook imported = new AddressBook();
+        final CsvPersonImporter.Result result = CsvPersonImporter.importInto(file, imported);
+
+        assertTrue(result.rejectedRows.isEmpty());
+        final List<ReadOnlyPerson> importedPersons = imported.getAllPersons().immutableListView();
+        assertEquals(getTestPersons(), importedPersons);
+        for (int i = 0; i < importedPersons.size(); i++) {
+            assertTrue(getTestPersons().get(i).hasSameData(importedPersons.get(i)));
+        }
+    }
+
+    @Test
+    public void exportTo_jsonLines_writesOneObjectPerLine() throws Exception {
+        final Path file = testFolder.getRoot().toPath().resolve("persons.jsonl");
+
+        assertEquals(2, PersonExporter.exportTo(file, getTestPersons()));
+
+        assertEquals(Arrays.asList(
+                "{\"name\":\"John Doe\",\"phone\":\"98765432\",\"phonePrivate\":false,"
+                        + "\"email\":\"johnd@gmail.com\",\"emailPrivate\":false,"
+                        + "\"address\":\"John street, block 123, #01-01\",\"addressPrivate\":false,\"tags\":[]}",
+                "{\"name\":\"Betsy Crowe\",\"phone\":\"1234567\",\"phonePrivate\":true,"
+                        + "\"email\":\"betsycrowe@gmail.com\",\"emailPrivate\":false,"
+                        + "\"address\":\"Newgate \\\"Prison\\\"\",\"addressPrivate\":true,"
+                        + "\"tags\":[\"friend\"]}"),
+                Files.readAllLines(file, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void exportTo_existingFile_overwritten() throws Exception {
+        final Path file = testFolder.getRoot().toPath().resolve("persons.jsonl");
+        Files.write(file, Collections.nCopies(100, "previous contents"), StandardCharsets.UTF_8);
+
+        assertEquals(0, PersonExporter.exportTo(file, Collections.<ReadOnlyPerson>emptyList()));
+
+        assertTrue(Files.readAllLines(file, StandardCharsets.UTF_8).isEmpty());
+    }
+
+    @Test
+    public void exportTo_missingFolder_exceptionThrown() throws Exception {
+        thrown.expect(StorageOperationException.class);
+        PersonExporter.exportTo(testFolder.getRoot().toPath().resolve("missing/persons.csv"), getTestPersons());
+    }
+
+    private List<Person> getTestPersons() throws Exception {
+        return Arrays.asList(
+                new Person(new Name("John Doe"),
+                           new Phone("98765432", false),
+                           new Email("johnd@gmail.com", false),
+                           new Address("John street, block 123, #01-01", false),
+                           new UniqueTagList(Collections.emptySet())),
+                new Person(new Name("Betsy Crowe"),
+                           new Phone("1234567", true),
+                           new Email("betsycrowe@gmail.com", false),
+                           new Address("Newgate \"Prison\"", true),
+                           new UniqueTagList(new Tag("friend"))));
+    }
+}
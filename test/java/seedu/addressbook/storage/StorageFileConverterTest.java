@@ -0,0 +1,70 @@
+package seedu.addressbook.storage;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.addressbook.util.TestUtil.assertFileDoesNotExist;
+import static seedu.addressbook.util.TestUtil.assertTextFilesEqual;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.addressbook.data.AddressBook;
+
+public class StorageFileConverterTest {
+    private static final Path VALID_DATA_FILE = Paths.get("test/data/StorageFileTest/ValidData.xml");
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private final ByteArrayOutputStream errBytes = new ByteArrayOutputStream();
+    private final PrintStream err = new PrintStream(errBytes, true);
+
+    @Test
+    public void run_xmlToBinaryAndBack_sameDataInBothDirections() throws Exception {
+        final Path source = testFolder.getRoot().toPath().resolve("source.xml");
+        Files.copy(VALID_DATA_FILE, source);
+        final String binary = getTempPath("converted.abk");
+        final String xml = getTempPath("converted.xml");
+
+        assertEquals(StorageFileConverter.EXIT_SUCCESS, StorageFileConverter.run(err, source.toString(), binary));
+        final AddressBook expected = new StorageFile(VALID_DATA_FILE.toString()).load();
+        final AddressBook converted = new StorageFile(binary).load();
+        assertEquals(expected.getAllPersons(), converted.getAllPersons());
+        assertEquals(expected.getAllTags(), converted.getAllTags());
+
+        assertEquals(StorageFileConverter.EXIT_SUCCESS, StorageFileConverter.run(err, binary, xml));
+        assertTextFilesEqual(VALID_DATA_FILE, Paths.get(xml));
+        assertEquals("", getErrOutput());
+    }
+
+    @Test
+    public void run_missingSource_failsWithoutWritingTarget() throws Exception {
+        final String source = getTempPath("missing.xml");
+        final String target = getTempPath("converted.abk");
+
+        assertEquals(StorageFileConverter.EXIT_FAILURE, StorageFileConverter.run(err, source, target));
+        assertEquals(String.format(StorageFileConverter.MESSAGE_SOURCE_NOT_FOUND, source), getErrOutput().trim());
+        assertFileDoesNotExist(target);
+    }
+
+    @Test
+    public void run_wrongNumberOfArgs_failsWithUsage() throws Exception {
+        assertEquals(StorageFileConverter.EXIT_FAILURE, StorageFileConverter.run(err, getTempPath("only.xml")));
+        assertEquals(StorageFileConverter.MESSAGE_USAGE, getErrOutput().trim());
+    }
+
+    private String getTempPath(String fileName) {
+        return testFolder.getRoot().toPath().resolve(fileName).toString();
+    }
+
+    private String getErrOutput() {
+        return new String(errBytes.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
@@ -1,7 +1,11 @@
 package seedu.addressbook.storage;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Collections;
 
@@ -90,8 +94,142 @@ public class StorageFileTest {
         assertStorageFilesEqual(storage, getStorage("ValidData.xml"));
     }
 
+    @Test
+    public void save_changesAfterLoad_appendedToJournalAndReplayedOnLoad() throws Exception {
+        StorageFile storage = getTempStorage();
+        AddressBook ab = storage.load();
+        storage.save(ab);
+        for (Person person : getTestAddressBook().getAllPersons()) {
+            ab.addPerson(new Person(person));
+        }
+        storage.save(ab);
+
+        assertTrue(Files.exists(Paths.get(storage.getPath() + StorageFile.JOURNAL_FILE_SUFFIX)));
+        assertEquals(ab.getAllPersons(), getTempStorage().load().getAllPersons());
+    }
+
+    @Test
+    public void save_journalPastCompactionThreshold_snapshotRewritten() throws Exception {
+        StorageFile storage = new StorageFile(getTempStorage().getPath(), 1);
+        AddressBook ab = storage.load();
+        for (Person person : getTestAddressBook().getAllPersons()) {
+            ab.addPerson(new Person(person));
+        }
+        storage.save(ab);
+
+        assertFileDoesNotExist(storage.getPath() + StorageFile.JOURNAL_FILE_SUFFIX);
+        assertStorageFilesEqual(storage, getStorage("ValidData.xml"));
+    }
+
+    @Test
+    public void save_binaryFormat_loadsSameData() throws Exception {
+        AddressBook ab = getTestAddressBook();
+        StorageFile storage = getTempStorage("temp.abk");
+        storage.save(ab);
+
+        AddressBook loaded = getTempStorage("temp.abk").load();
+        assertEquals(ab.getAllPersons(), loaded.getAllPersons());
+        assertEquals(ab.getAllTags(), loaded.getAllTags());
+    }
+
+    @Test
+    public void load_binaryFormatWithJournal_changesReplayed() throws Exception {
+        StorageFile storage = getTempStorage("temp.abk");
+        AddressBook ab = getTestAddressBook();
+        storage.save(ab);
+        ab.removePerson(ab.getAllPersons().immutableListView().get(0));
+        ab.addPerson(new Person(new Name("Jane Doe"),
+                                new Phone("91234567", true),
+                                new Email("jane@example.com", false),
+                                new Address("Jane street", false),
+                                new UniqueTagList(new Tag("friend"))));
+        storage.save(ab);
+
+        assertEquals(ab.getAllPersons(), getTempStorage("temp.abk").load().getAllPersons());
+    }
+
+    @Test
+    public void load_staleJournalNextToNewerSnapshot_journalIgnored() throws Exception {
+        assertStaleJournalIgnored("temp.xml");
+    }
+
+    @Test
+    public void load_binaryFormatStaleJournalNextToNewerSnapshot_journalIgnored() throws Exception {
+        assertStaleJournalIgnored("temp.abk");
+    }
+
+    @Test
+    public void save_afterStaleJournalIgnored_newJournalReplayed() throws Exception {
+        StorageFile storage = getTempStorage();
+        AddressBook ab = getTestAddressBook();
+        leaveStaleJournal(storage, ab);
+
+        AddressBook loaded = storage.load();
+        Person jane = new Person(new Name("Jane Doe"),
+                                 new Phone("91234567", true),
+                                 new Email("jane@example.com", false),
+                                 new Address("Jane street", false),
+                                 new UniqueTagList(new Tag("friend")));
+        loaded.addPerson(jane);
+        storage.save(loaded);
+
+        assertEquals(loaded.getAllPersons(), getTempStorage().load().getAllPersons());
+    }
+
+    @Test
+    public void load_snapshotWithoutGeneration_loadsSameData() throws Exception {
+        String stamped = new String(Files.readAllBytes(Paths.get(getStorage("ValidData.xml").getPath())),
+                StandardCharsets.UTF_8);
+        StorageFile storage = getTempStorage();
+        Files.write(Paths.get(storage.getPath()),
+                stamped.replace(" generation=\"1\"", "").getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(getTestAddressBook().getAllPersons(), storage.load().getAllPersons());
+    }
+
+    @Test
+    public void load_binaryFormatCorrupted_exceptionThrown() throws Exception {
+        StorageFile storage = getTempStorage("temp.abk");
+        Files.write(Paths.get(storage.getPath()), new byte[] {1, 2, 3, 4, 5});
+        thrown.expect(StorageOperationException.class);
+        storage.load();
+    }
+
     // getPath() method in StorageFile class is trivial so it is not tested
 
+    /**
+     * Asserts that a journal left over from an earlier snapshot, as by a crash between replacing the snapshot
+     * and deleting the journal, is not replayed onto the newer snapshot.
+     */
+    private void assertStaleJournalIgnored(String fileName) throws Exception {
+        StorageFile storage = getTempStorage(fileName);
+        AddressBook ab = getTestAddressBook();
+        leaveStaleJournal(storage, ab);
+
+        assertEquals(ab.getAllPersons(), getTempStorage(fileName).load().getAllPersons());
+        assertFileDoesNotExist(storage.getPath() + StorageFile.TEMP_FILE_SUFFIX);
+    }
+
+    /**
+     * Saves the persons of the address book through a journal, compacts the journal into a new snapshot, then
+     * puts the old journal back next to it.
+     */
+    private void leaveStaleJournal(StorageFile storage, AddressBook ab) throws Exception {
+        AddressBook journaled = storage.load();
+        storage.save(journaled);
+        for (Person person : ab.getAllPersons()) {
+            journaled.addPerson(new Person(person));
+        }
+        storage.save(journaled);
+        Path journalPath = Paths.get(storage.getPath() + StorageFile.JOURNAL_FILE_SUFFIX);
+        byte[] staleJournal = Files.readAllBytes(journalPath);
+
+        StorageFile compacting = new StorageFile(storage.getPath(), 0);
+        compacting.save(compacting.load());
+        assertFileDoesNotExist(journalPath.toString());
+        Files.write(journalPath, staleJournal);
+    }
+
     /**
      * Asserts that the contents of two storage files are the same.
      */
@@ -104,7 +242,11 @@ public class StorageFileTest {
     }
 
     private StorageFile getTempStorage() throws Exception {
-        return new StorageFile(testFolder.getRoot().getPath() + "/" + "temp.xml");
+        return getTempStorage("temp.xml");
+    }
+
+    private StorageFile getTempStorage(String fileName) throws Exception {
+        return new StorageFile(testFolder.getRoot().getPath() + "/" + fileName);
     }
 
     private AddressBook getTestAddressBook() throws Exception {
@@ -0,0 +1,184 @@
+package seedu.addressbook.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.xml.stream.XMLStreamException;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.exception.IllegalValueException;
+import seedu.addressbook.data.person.Address;
+import seedu.addressbook.data.person.Email;
+import seedu.addressbook.data.person.Name;
+import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.Phone;
+import seedu.addressbook.data.person.ReadOnlyPerson;
+import seedu.addressbook.data.tag.Tag;
+import seedu.addressbook.data.tag.UniqueTagList;
+import seedu.addressbook.storage.SnapshotFormat.Snapshot;
+import seedu.addressbook.storage.StorageFile.StorageOperationException;
+
+public class XmlAddressBookReaderTest {
+
+    private static final String XML_DECLARATION = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>";
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void read_writtenByWriter_sameDataAndGeneration() throws Exception {
+        final AddressBook ab = new AddressBook();
+        ab.addPerson(new Person(new Name("John Doe"),
+                                new Phone("98765432", false),
+                                new Email("johnd@gmail.com", true),
+                                new Address("<Block 1> & \"Tower\" 'B', \u00e9tage 3", false),
+                                new UniqueTagList(new Tag("friend"), new Tag("colleague"))));
+        ab.addPerson(new Person(new Name("Betsy Crowe"),
+                                new Phone("1234567", true),
+                                new Email("betsycrowe@gmail.com", false),
+                                new Address("Newgate Prison", true),
+                                new UniqueTagList()));
+
+        final Snapshot snapshot = read(write(42, ab));
+
+        assertEquals(42, snapshot.generation);
+        assertSamePersons(ab.getAllPersons().immutableListView(),
+                snapshot.addressBook.getAllPersons().immutableListView());
+        assertEquals(ab.getAllTags(), snapshot.addressBook.getAllTags());
+    }
+
+    @Test
+    public void read_writtenByWriterPastConversionBatch_allPersonsInOrder() throws Exception {
+        final AddressBook ab = new AddressBook();
+        final int personCount = XmlAddressBookReader.CONVERSION_BATCH_SIZE + 3;
+        for (int i = 0; i < personCount; i++) {
+            ab.addPerson(new Person(new Name("John Doe"),
+                                    new Phone(String.valueOf(i), i % 2 == 0),
+                                    new Email("johnd@gmail.com", false),
+                                    new Address("Clementi", false),
+                                    new UniqueTagList()));
+        }
+
+        final Snapshot snapshot = read(write(1, ab));
+
+        assertSamePersons(ab.getAllPersons().immutableListView(),
+                snapshot.addressBook.getAllPersons().immutableListView());
+    }
+
+    @Test
+    public void read_noGeneration_readAsUnstamped() throws Exception {
+        final Snapshot snapshot = read(XML_DECLARATION + "<AddressBook><tags>friend</tags></AddressBook>");
+
+        assertEquals(SnapshotFormat.UNSTAMPED_GENERATION, snapshot.generation);
+        assertEquals(new UniqueTagList(new Tag("friend")), snapshot.addressBook.getAllTags());
+    }
+
+    @Test
+    public void read_unknownElementsAndMissingPrivacy_skippedAndNotPrivate() throws Exception {
+        final Snapshot snapshot = read(XML_DECLARATION + "<AddressBook>"
+                + "<notes><note>ignored</note></notes>"
+                + "<persons><name>John Doe</name><nickname>Johnny</nickname><phone>98765432</phone>"
+                + "<email isPrivate=\"1\">johnd@gmail.com</email><address isPrivate=\"yes\">Clementi</address>"
+                + "</persons></AddressBook>");
+
+        final ReadOnlyPerson john = snapshot.addressBook.getAllPersons().immutableListView().get(0);
+        assertEquals("98765432", john.getPhone().value);
+        assertFalse(john.getPhone().isPrivate());
+        assertTrue(john.getEmail().isPrivate());
+        assertFalse(john.getAddress().isPrivate());
+    }
+
+    @Test
+    public void read_notWellFormed_exceptionThrown() throws Exception {
+        thrown.expect(XMLStreamException.class);
+        read(XML_DECLARATION + "<AddressBook><persons><name>John Doe</name>");
+    }
+
+    @Test
+    public void read_wrongRootElement_exceptionThrown() throws Exception {
+        thrown.expect(XMLStreamException.class);
+        read(XML_DECLARATION + "<Contacts></Contacts>");
+    }
+
+    @Test
+    public void read_invalidGeneration_exceptionThrown() throws Exception {
+        thrown.expect(XMLStreamException.class);
+        read(XML_DECLARATION + "<AddressBook generation=\"latest\"></AddressBook>");
+    }
+
+    @Test
+    public void read_externalEntity_notResolved() throws Exception {
+        thrown.expect(XMLStreamException.class);
+        read(XML_DECLARATION + "<!DOCTYPE AddressBook [<!ENTITY secret SYSTEM \"file:///etc/passwd\">]>"
+                + "<AddressBook><tags>&secret;</tags></AddressBook>");
+    }
+
+    @Test
+    public void read_personMissingPhone_exceptionThrown() throws Exception {
+        thrown.expect(StorageOperationException.class);
+        read(XML_DECLARATION + "<AddressBook><persons><name>John Doe</name>"
+                + "<email isPrivate=\"false\">johnd@gmail.com</email><address isPrivate=\"false\">Clementi</address>"
+                + "</persons></AddressBook>");
+    }
+
+    @Test
+    public void read_severalInvalidPersons_firstInFileReported() throws Exception {
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(Phone.MESSAGE_PHONE_CONSTRAINTS);
+        read(XML_DECLARATION + "<AddressBook>"
+                + "<persons><name>John Doe</name><phone>not a number</phone>"
+                + "<email>johnd@gmail.com</email><address>Clementi</address></persons>"
+                + "<persons><name>B3tsy</name><phone>1234567</phone>"
+                + "<email>betsycrowe@gmail.com</email><address>Newgate</address></persons>"
+                + "</AddressBook>");
+    }
+
+    @Test
+    public void read_invalidTag_exceptionThrown() throws Exception {
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(Tag.MESSAGE_TAG_CONSTRAINTS);
+        read(XML_DECLARATION + "<AddressBook><tags>best friend</tags></AddressBook>");
+    }
+
+    private static String write(long generation, AddressBook ab) throws Exception {
+        final StringWriter target = new StringWriter();
+        new XmlAddressBookWriter(target).write(generation, ab.getAllPersons(), ab.getAllTags());
+        return target.toString();
+    }
+
+    private static Snapshot read(String document) throws Exception {
+        final byte[] bytes = document.getBytes(StandardCharsets.UTF_8);
+        return new XmlAddressBookReader(new ByteArrayInputStream(bytes)).read();
+    }
+
+    /**
+     * Asserts that the persons are equal in order, including the privacy of their contact details.
+     */
+    private static void assertSamePersons(List<ReadOnlyPerson> expected, List<ReadOnlyPerson> actual) {
+        assertEquals(expected, actual);
+        final List<List<Boolean>> expectedPrivacy = new ArrayList<>();
+        final List<List<Boolean>> actualPrivacy = new ArrayList<>();
+        for (int i = 0; i < expected.size(); i++) {
+            expectedPrivacy.add(getPrivacy(expected.get(i)));
+            actualPrivacy.add(getPrivacy(actual.get(i)));
+        }
+        assertEquals(expectedPrivacy, actualPrivacy);
+    }
+
+    private static List<Boolean> getPrivacy(ReadOnlyPerson person) {
+        return Arrays.asList(person.getPhone().isPrivate(), person.getEmail().isPrivate(),
+                person.getAddress().isPrivate());
+    }
+}
@@ -0,0 +1,108 @@
+package seedu.addressbook.storage.xml;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.addressbook.data.exception.IllegalValueException;
+import seedu.addressbook.data.person.Address;
+import seedu.addressbook.data.person.Email;
+import seedu.addressbook.data.person.Name;
+import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.Phone;
+import seedu.addressbook.data.tag.Tag;
+import seedu.addressbook.data.tag.UniqueTagList;
+
+public class AdaptedPersonTest {
+    private static final String VALID_NAME = "John Doe";
+    private static final String VALID_PHONE = "98765432";
+    private static final String VALID_EMAIL = "johnd@gmail.com";
+    private static final String VALID_ADDRESS = "John street, block 123, #01-01";
+    private static final List<String> VALID_TAGS = Arrays.asList("friend", "colleague");
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void toModelType_validFields_returnsPerson() throws Exception {
+        final AdaptedPerson adapted = new AdaptedPerson(VALID_NAME, VALID_PHONE, true, VALID_EMAIL, false,
+                VALID_ADDRESS, true, VALID_TAGS);
+
+        final Person expected = new Person(new Name(VALID_NAME),
+                                           new Phone(VALID_PHONE, true),
+                                           new Email(VALID_EMAIL, false),
+                                           new Address(VALID_ADDRESS, true),
+                                           new UniqueTagList(new Tag("friend"), new Tag("colleague")));
+        final Person actual = adapted.toModelType();
+
+        assertFalse(adapted.isAnyRequiredFieldMissing());
+        assertEquals(expected, actual);
+        assertTrue(actual.getPhone().isPrivate());
+        assertFalse(actual.getEmail().isPrivate());
+        assertTrue(actual.getAddress().isPrivate());
+    }
+
+    @Test
+    public void toModelType_invalidName_exceptionThrown() throws Exception {
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(Name.MESSAGE_NAME_CONSTRAINTS);
+        new AdaptedPerson("J0hn D0e", VALID_PHONE, false, VALID_EMAIL, false, VALID_ADDRESS, false, VALID_TAGS)
+                .toModelType();
+    }
+
+    @Test
+    public void toModelType_invalidPhone_exceptionThrown() throws Exception {
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(Phone.MESSAGE_PHONE_CONSTRAINTS);
+        new AdaptedPerson(VALID_NAME, "+65 9876", false, VALID_EMAIL, false, VALID_ADDRESS, false, VALID_TAGS)
+                .toModelType();
+    }
+
+    @Test
+    public void toModelType_invalidEmail_exceptionThrown() throws Exception {
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(Email.MESSAGE_EMAIL_CONSTRAINTS);
+        new AdaptedPerson(VALID_NAME, VALID_PHONE, false, "johnd.gmail.com", false, VALID_ADDRESS, false, VALID_TAGS)
+                .toModelType();
+    }
+
+    @Test
+    public void toModelType_invalidTag_exceptionThrown() throws Exception {
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(Tag.MESSAGE_TAG_CONSTRAINTS);
+        new AdaptedPerson(VALID_NAME, VALID_PHONE, false, VALID_EMAIL, false, VALID_ADDRESS, false,
+                Arrays.asList("friend", "best friend")).toModelType();
+    }
+
+    @Test
+    public void isAnyRequiredFieldMissing_missingField_returnsTrue() {
+        assertTrue(new AdaptedPerson(null, VALID_PHONE, false, VALID_EMAIL, false, VALID_ADDRESS, false,
+                VALID_TAGS).isAnyRequiredFieldMissing());
+        assertTrue(new AdaptedPerson(VALID_NAME, null, false, VALID_EMAIL, false, VALID_ADDRESS, false,
+                VALID_TAGS).isAnyRequiredFieldMissing());
+        assertTrue(new AdaptedPerson(VALID_NAME, VALID_PHONE, false, null, false, VALID_ADDRESS, false,
+                VALID_TAGS).isAnyRequiredFieldMissing());
+        assertTrue(new AdaptedPerson(VALID_NAME, VALID_PHONE, false, VALID_EMAIL, false, null, false,
+                VALID_TAGS).isAnyRequiredFieldMissing());
+        assertTrue(new AdaptedPerson(VALID_NAME, VALID_PHONE, false, VALID_EMAIL, false, VALID_ADDRESS, false,
+                Collections.singletonList(null)).isAnyRequiredFieldMissing());
+    }
+
+    @Test
+    public void adaptedTag_invalidName_exceptionThrown() throws Exception {
+        assertFalse(new AdaptedTag("best friend").isAnyRequiredFieldMissing());
+        assertTrue(new AdaptedTag(null).isAnyRequiredFieldMissing());
+
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(Tag.MESSAGE_TAG_CONSTRAINTS);
+        new AdaptedTag("best friend").toModelType();
+    }
+}